@@ -0,0 +1,111 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.spring.emprendedoresApp.models.dtos.LoginDTO;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IRefreshTokenService;
+import com.spring.emprendedoresApp.services.impl.AuthServiceImpl;
+import com.spring.emprendedoresApp.services.impl.PasswordHashingServiceImpl;
+
+/**
+ * Login completo (búsqueda, BCrypt y emisión del JWT) contra un repositorio simulado,
+ * para aislar el coste de CPU del acceso a la base de datos.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AuthServiceBenchmark {
+
+    // Coste BCrypt del hash guardado y del servicio (12 era el coste fijo antes de la calibración)
+    @Param({ "10", "12" })
+    public int passwordCost;
+
+    private PasswordHashingServiceImpl passwordHashingService;
+    private AuthServiceImpl authService;
+    private LoginDTO validLogin;
+    private LoginDTO wrongPassword;
+    private LoginDTO unknownUser;
+
+    @Setup
+    public void setup() throws Exception {
+        UserEntity user = BenchmarkFixtures.user();
+        user.setPassword(new BCryptPasswordEncoder(passwordCost).encode(BenchmarkFixtures.PASSWORD));
+
+        // stubOnly: el mock no registra las invocaciones, así no crece la memoria durante la medición
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        IRefreshTokenService refreshTokenService = mock(IRefreshTokenService.class, withSettings().stubOnly());
+        when(refreshTokenService.issueRefreshToken(any(), any())).thenReturn("refresh-token");
+
+        passwordHashingService = BenchmarkFixtures.passwordHashingService(passwordCost);
+
+        authService = new AuthServiceImpl();
+        ReflectionTestUtils.setField(authService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(authService, "jwtUtilityService", BenchmarkFixtures.jwtUtilityService());
+        ReflectionTestUtils.setField(authService, "refreshTokenService", refreshTokenService);
+        ReflectionTestUtils.setField(authService, "passwordHashingService", passwordHashingService);
+        ReflectionTestUtils.setField(authService, "meterRegistry", BenchmarkFixtures.METER_REGISTRY);
+        authService.init();
+
+        validLogin = login(user.getEmail(), BenchmarkFixtures.PASSWORD);
+        wrongPassword = login(user.getEmail(), "Incorrecta#2024");
+        unknownUser = login("nadie@example.com", BenchmarkFixtures.PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public HashMap<String, String> login() throws Exception {
+        return authService.login(validLogin);
+    }
+
+    @Benchmark
+    public HashMap<String, String> loginWrongPassword() throws Exception {
+        return authService.login(wrongPassword);
+    }
+
+    @Benchmark
+    public HashMap<String, String> loginUnknownUser() throws Exception {
+        return authService.login(unknownUser);
+    }
+
+    private static LoginDTO login(String email, String password) {
+        LoginDTO login = new LoginDTO();
+        login.setEmail(email);
+        login.setPassword(password);
+        return login;
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.security.JWTKeyRing;
+import com.spring.emprendedoresApp.security.JWTSigningAlgorithm;
+import com.spring.emprendedoresApp.security.RejectedTokenCache;
+import com.spring.emprendedoresApp.security.VerifiedTokenCache;
+import com.spring.emprendedoresApp.services.impl.JWTUtilityServiceImpl;
+import com.spring.emprendedoresApp.services.impl.PasswordHashingServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Construye los componentes de autenticación fuera del contexto de Spring, con las mismas
+ * claves y valores por defecto que la aplicación, para medirlos de forma aislada.
+ */
+final class BenchmarkFixtures {
+
+    static final String PASSWORD = "Secreta#2024";
+
+    // Registro en memoria, para medir también el coste de los timers como en producción
+    static final SimpleMeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    private BenchmarkFixtures() {
+    }
+
+    static JWTKeyRing keyRing() throws Exception {
+        JWTKeyRing keyRing = new JWTKeyRing();
+        ReflectionTestUtils.setField(keyRing, "algorithm", JWTSigningAlgorithm.RS256);
+        ReflectionTestUtils.setField(keyRing, "privateKeyResource", new ClassPathResource("jwtKeys/private_key.pem"));
+        ReflectionTestUtils.setField(keyRing, "publicKeyResource", new ClassPathResource("jwtKeys/public_key.pem"));
+        ReflectionTestUtils.setField(keyRing, "additionalPublicKeyPaths", new String[0]);
+        ReflectionTestUtils.setField(keyRing, "rotationGraceSeconds", 3600L);
+        ReflectionTestUtils.setField(keyRing, "resourceLoader", new DefaultResourceLoader());
+        keyRing.init();
+        return keyRing;
+    }
+
+    static JWTUtilityServiceImpl jwtUtilityService() throws Exception {
+        return jwtUtilityService(keyRing());
+    }
+
+    static JWTUtilityServiceImpl jwtUtilityService(JWTKeyRing keyRing) {
+        JWTUtilityServiceImpl jwtUtilityService = new JWTUtilityServiceImpl();
+        ReflectionTestUtils.setField(jwtUtilityService, "keyRing", keyRing);
+        ReflectionTestUtils.setField(jwtUtilityService, "accessTokenTtlSeconds", 900L);
+        ReflectionTestUtils.setField(jwtUtilityService, "meterRegistry", METER_REGISTRY);
+        jwtUtilityService.init();
+        return jwtUtilityService;
+    }
+
+    static VerifiedTokenCache verifiedTokenCache(long maximumSize, JWTKeyRing keyRing) {
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(tokenCache, "maximumSize", maximumSize);
+        ReflectionTestUtils.setField(tokenCache, "keyRing", keyRing);
+        tokenCache.init();
+        return tokenCache;
+    }
+
+    static RejectedTokenCache rejectedTokenCache(long maximumSize) {
+        RejectedTokenCache rejectedTokenCache = new RejectedTokenCache();
+        ReflectionTestUtils.setField(rejectedTokenCache, "maximumSize", maximumSize);
+        ReflectionTestUtils.setField(rejectedTokenCache, "ttlSeconds", 300L);
+        rejectedTokenCache.init();
+        return rejectedTokenCache;
+    }
+
+    static PasswordHashingServiceImpl passwordHashingService(int cost) {
+        PasswordHashingServiceImpl passwordHashingService = new PasswordHashingServiceImpl();
+        ReflectionTestUtils.setField(passwordHashingService, "threads", 0);
+        ReflectionTestUtils.setField(passwordHashingService, "queueCapacity", 64);
+        ReflectionTestUtils.setField(passwordHashingService, "timeoutMs", 5000L);
+        ReflectionTestUtils.setField(passwordHashingService, "configuredCost", cost);
+        passwordHashingService.init();
+        return passwordHashingService;
+    }
+
+    // Usuario que supera todas las reglas de UserValidation
+    static UserEntity user() {
+        UserEntity user = new UserEntity();
+        user.setId(1L);
+        user.setUsername("emprendedor");
+        user.setEmail("emprendedor@example.com");
+        user.setPassword(PASSWORD);
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        RoleEntity role = new RoleEntity();
+        role.setId(1L);
+        role.setRoleName(RoleEntity.RoleName.ROLE_USER);
+        user.setRole(role);
+        return user;
+    }
+}
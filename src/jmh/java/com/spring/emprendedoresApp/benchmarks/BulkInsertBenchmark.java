@@ -0,0 +1,108 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.spring.emprendedoresApp.EmprendedoresAppApplication;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IPostService;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+/**
+ * Publicaciones insertadas por segundo contra la aplicación completa (perfil "test", H2 en memoria
+ * con las migraciones de Flyway). "save" es el camino de siempre, un createPost por publicación
+ * con su propia transacción; "bulk" usa createPosts, con INSERT por lotes JDBC.
+ * Con MySQL la diferencia es mayor, ya que cada ida y vuelta cuesta una latencia de red.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BulkInsertBenchmark {
+
+    private static final int POSTS_PER_INVOCATION = 1000;
+
+    @Param({ "save", "bulk" })
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private IPostService postService;
+    private PostRepository postRepository;
+    private Long authorId;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(EmprendedoresAppApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "management.server.port=0",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        postService = context.getBean(IPostService.class);
+        postRepository = context.getBean(PostRepository.class);
+
+        UserEntity author = BenchmarkFixtures.user();
+        author.setId(null);
+        author.setRole(context.getBean(RoleRegistry.class).get(RoleEntity.RoleName.ROLE_USER));
+        authorId = context.getBean(UserRepository.class).save(author).getId();
+    }
+
+    // La tabla se vacía entre iteraciones para que su tamaño no influya en la medida
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS_PER_INVOCATION)
+    public int insertPosts() {
+        List<PostEntity> posts = newPosts();
+        if ("bulk".equals(mode)) {
+            return postService.createPosts(posts, authorId).size();
+        }
+        for (PostEntity post : posts) {
+            postService.createPost(post, authorId);
+        }
+        return posts.size();
+    }
+
+    private static List<PostEntity> newPosts() {
+        List<PostEntity> posts = new ArrayList<>(POSTS_PER_INVOCATION);
+        for (int i = 0; i < POSTS_PER_INVOCATION; i++) {
+            PostEntity post = new PostEntity();
+            post.setTitle("Publicación " + i);
+            post.setContent("Contenido de la publicación " + i);
+            posts.add(post);
+        }
+        return posts;
+    }
+}
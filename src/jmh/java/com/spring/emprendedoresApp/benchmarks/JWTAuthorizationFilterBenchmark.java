@@ -0,0 +1,88 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.spring.emprendedoresApp.security.JWTAuthorizationFilter;
+import com.spring.emprendedoresApp.security.JWTKeyRing;
+import com.spring.emprendedoresApp.services.impl.JWTUtilityServiceImpl;
+
+/**
+ * Coste del filtro JWT por petición, con una cadena de filtros simulada que no hace nada.
+ * "tokenCache=false" mide la verificación completa; "true" el caso habitual de un token repetido.
+ * Los casos de token falsificado y de basura miden el coste de rechazar un ataque (con "true",
+ * la caché negativa evita repetir la verificación del token falsificado).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JWTAuthorizationFilterBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean tokenCache;
+
+    private JWTAuthorizationFilter filter;
+    private String authorizationHeader;
+    private String forgedAuthorizationHeader;
+    private String garbageAuthorizationHeader;
+
+    @Setup
+    public void setup() throws Exception {
+        JWTKeyRing keyRing = BenchmarkFixtures.keyRing();
+        JWTUtilityServiceImpl jwtUtilityService = BenchmarkFixtures.jwtUtilityService(keyRing);
+        long cacheSize = tokenCache ? 10000 : 0;
+        filter = new JWTAuthorizationFilter(jwtUtilityService, BenchmarkFixtures.verifiedTokenCache(cacheSize, keyRing),
+                BenchmarkFixtures.rejectedTokenCache(cacheSize), BenchmarkFixtures.METER_REGISTRY);
+        String token = jwtUtilityService.generateJWT(BenchmarkFixtures.user(), List.of("ROLE_USER"));
+        authorizationHeader = "Bearer " + token;
+
+        // Mismo token con la firma alterada: estructura válida, firma incorrecta
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        forgedAuthorizationHeader = "Bearer " + token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+        garbageAuthorizationHeader = "Bearer not-a-jwt";
+    }
+
+    @Benchmark
+    public int doFilter() throws Exception {
+        return filter(authorizationHeader);
+    }
+
+    @Benchmark
+    public int doFilterForgedToken() throws Exception {
+        return filter(forgedAuthorizationHeader);
+    }
+
+    @Benchmark
+    public int doFilterMalformedToken() throws Exception {
+        return filter(garbageAuthorizationHeader);
+    }
+
+    private int filter(String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+}
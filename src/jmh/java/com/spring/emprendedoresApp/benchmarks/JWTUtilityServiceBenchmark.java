@@ -0,0 +1,54 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.services.impl.JWTUtilityServiceImpl;
+
+/**
+ * Emisión (login) y validación (cada petición autenticada) de JWT con las claves de la aplicación.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JWTUtilityServiceBenchmark {
+
+    private JWTUtilityServiceImpl jwtUtilityService;
+    private UserEntity user;
+    private List<String> roles;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        jwtUtilityService = BenchmarkFixtures.jwtUtilityService();
+        user = BenchmarkFixtures.user();
+        roles = List.of(user.getRole().getRoleName().name());
+        token = jwtUtilityService.generateJWT(user, roles);
+    }
+
+    @Benchmark
+    public String generateJWT() throws Exception {
+        return jwtUtilityService.generateJWT(user, roles);
+    }
+
+    @Benchmark
+    public JWTClaimsSet parseJWT() throws Exception {
+        return jwtUtilityService.parseJWT(token);
+    }
+}
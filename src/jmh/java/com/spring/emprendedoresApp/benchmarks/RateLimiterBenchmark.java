@@ -0,0 +1,64 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.spring.emprendedoresApp.security.RateLimitProperties;
+import com.spring.emprendedoresApp.security.RateLimiter;
+
+/**
+ * Latencia añadida por el limitador a una petición admitida, con varios hilos compitiendo por
+ * el mismo bucket (peor caso del compareAndSet) y con una ruta que no pertenece a ningún grupo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RateLimiterBenchmark {
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setup() {
+        // Límite inalcanzable para medir solo el coste de una petición admitida
+        RateLimitProperties.Group writes = new RateLimitProperties.Group();
+        writes.setName("writes");
+        writes.setMethods(List.of("POST", "PUT", "PATCH", "DELETE"));
+        writes.setPatterns(List.of("/api/posts/**", "/api/comments/**"));
+        writes.setCapacity(Integer.MAX_VALUE / 2);
+        writes.setRefillPerMinute(Integer.MAX_VALUE);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(List.of(writes));
+
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "properties", properties);
+        rateLimiter.init();
+    }
+
+    @Benchmark
+    public long limitedRoute() {
+        return rateLimiter.tryAcquire("POST", "/api/posts/create", "user:emprendedor");
+    }
+
+    @Benchmark
+    public long unlimitedRoute() {
+        return rateLimiter.tryAcquire("GET", "/api/posts/status/IDEAS", "user:emprendedor");
+    }
+}
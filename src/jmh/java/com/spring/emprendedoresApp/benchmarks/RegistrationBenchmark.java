@@ -0,0 +1,115 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.spring.emprendedoresApp.EmprendedoresAppApplication;
+import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.RoleRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IAuthService;
+import com.spring.emprendedoresApp.services.IPasswordHashingService;
+
+/**
+ * Altas por segundo contra la aplicación completa (perfil "test", H2 en memoria, BCrypt de coste 4).
+ * "checkThenInsert" repite la secuencia anterior (findByEmail, findByUsername, findByRoleName e
+ * INSERT); "insert" es el alta actual, un único INSERT con los duplicados detectados por las
+ * restricciones únicas. Con MySQL cada consulta ahorrada es además una latencia de red.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RegistrationBenchmark {
+
+    @Param({ "checkThenInsert", "insert" })
+    public String mode;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private IAuthService authService;
+    private IPasswordHashingService passwordHashingService;
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(EmprendedoresAppApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "management.server.port=0",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        authService = context.getBean(IAuthService.class);
+        passwordHashingService = context.getBean(IPasswordHashingService.class);
+        userRepository = context.getBean(UserRepository.class);
+        roleRepository = context.getBean(RoleRepository.class);
+    }
+
+    // La tabla se vacía entre iteraciones para que su tamaño no influya en la medida
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object register() throws Exception {
+        UserEntity user = newUser();
+        if ("insert".equals(mode)) {
+            return authService.register(user, "ROLE_USER");
+        }
+        return checkThenInsert(user);
+    }
+
+    // Secuencia de consultas del alta anterior, sin la validación (igual en ambos modos)
+    private ResponseDTO checkThenInsert(UserEntity user) {
+        ResponseDTO response = new ResponseDTO();
+        if (userRepository.findByEmail(user.getEmail()).isPresent()
+                || userRepository.findByUsername(user.getUsername()).isPresent()) {
+            response.setNumOfError(1);
+            return response;
+        }
+        user.setRole(roleRepository.findByRoleName(RoleEntity.RoleName.ROLE_USER));
+        user.setPassword(passwordHashingService.hash(user.getPassword()));
+        userRepository.save(user);
+        return response;
+    }
+
+    private UserEntity newUser() {
+        long n = sequence.incrementAndGet();
+        UserEntity user = BenchmarkFixtures.user();
+        user.setId(null);
+        user.setRole(null);
+        user.setUsername("emprendedor" + n);
+        user.setEmail("emprendedor" + n + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,123 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.spring.emprendedoresApp.services.impl.InvertedIndex;
+
+/**
+ * Consultas por segundo sobre un corpus sintético de publicaciones (vocabulario con frecuencias
+ * de tipo Zipf, como el texto real). "index" es la búsqueda BM25 del índice invertido con los
+ * 20 mejores resultados; "scan" es la alternativa sin índice, recorrer todas las publicaciones
+ * buscando las palabras de la consulta en el texto en minúsculas.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SearchBenchmark {
+
+    private static final int VOCABULARY = 5_000;
+    private static final int QUERIES = 1_024;
+
+    @Param({ "10000", "100000" })
+    public int posts;
+
+    private InvertedIndex index;
+    private String[] documents;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = word(random);
+        }
+        // Zipf: la palabra de rango r aparece con probabilidad proporcional a 1/r
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+
+        index = new InvertedIndex();
+        documents = new String[posts];
+        for (int id = 0; id < posts; id++) {
+            String title = sentence(random, words, cumulative, total, 4 + random.nextInt(5));
+            String content = sentence(random, words, cumulative, total, 20 + random.nextInt(21));
+            index.put(id, title, content);
+            documents[id] = (title + " " + content).toLowerCase(Locale.ROOT);
+        }
+
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = sentence(random, words, cumulative, total, 1 + random.nextInt(2));
+        }
+    }
+
+    @Benchmark
+    public List<Long> index() {
+        return index.search(nextQuery(), 20);
+    }
+
+    @Benchmark
+    public List<Integer> scan() {
+        String[] terms = nextQuery().toLowerCase(Locale.ROOT).split(" ");
+        List<Integer> matches = new ArrayList<>();
+        for (int id = 0; id < documents.length; id++) {
+            for (String term : terms) {
+                if (documents[id].contains(term)) {
+                    matches.add(id);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private String nextQuery() {
+        next = (next + 1) & (QUERIES - 1);
+        return queries[next];
+    }
+
+    private static String sentence(Random random, String[] words, double[] cumulative, double total, int length) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            sentence.append(i == 0 ? "" : " ").append(words[rank < 0 ? -rank - 1 : rank]);
+        }
+        return sentence.toString();
+    }
+
+    // Palabras de 4 a 10 letras, algunas con tilde
+    private static String word(Random random) {
+        String letters = "abcdefghijlmnoprstuvaeioáéíóúñ";
+        int length = 4 + random.nextInt(7);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.spring.emprendedoresApp.security.JWTSigningAlgorithm;
+
+/**
+ * Rendimiento de firma (login) y verificación (cada petición) por algoritmo JWT.
+ * La entrada firmada es la de un token real con las mismas reclamaciones que genera la aplicación.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SigningAlgorithmBenchmark {
+
+    @Param({ "RS256", "ES256", "EdDSA" })
+    public JWTSigningAlgorithm algorithm;
+
+    private JWSSigner signer;
+    private JWSVerifier verifier;
+    private JWSHeader header;
+    private byte[] signingInput;
+    private Base64URL signature;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyPair keyPair = algorithm.generateKeyPair();
+        signer = algorithm.createSigner(keyPair.getPrivate());
+        verifier = algorithm.createVerifier(keyPair.getPublic());
+
+        header = new JWSHeader.Builder(algorithm.getJwsAlgorithm())
+                .keyID(algorithm.keyId(keyPair.getPublic()))
+                .type(JOSEObjectType.JWT)
+                .build();
+        Date now = new Date();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("benchmark-user")
+                .claim("authorities", List.of("ROLE_USER"))
+                .issueTime(now)
+                .expirationTime(new Date(now.getTime() + 3600000))
+                .build();
+        signingInput = new SignedJWT(header, claims).getSigningInput();
+        signature = signer.sign(header, signingInput);
+    }
+
+    @Benchmark
+    public Base64URL sign() throws Exception {
+        return signer.sign(header, signingInput);
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        return verifier.verify(header, signingInput, signature);
+    }
+}
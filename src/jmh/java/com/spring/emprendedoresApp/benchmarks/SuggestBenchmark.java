@@ -0,0 +1,109 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.spring.emprendedoresApp.models.dtos.SuggestionDTO;
+import com.spring.emprendedoresApp.services.impl.PrefixIndex;
+
+/**
+ * Latencia (percentiles, en microsegundos) de las 10 sugerencias más recientes para lo que se va
+ * escribiendo: prefijos de 1 a 8 caracteres de títulos existentes, sobre títulos sintéticos con
+ * vocabulario de frecuencias tipo Zipf. Al preparar cada tamaño se imprime la memoria estimada
+ * del índice por entrada.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SuggestBenchmark {
+
+    private static final int VOCABULARY = 5_000;
+    private static final int PREFIXES = 1_024;
+
+    @Param({ "100000", "1000000" })
+    public int titles;
+
+    private PrefixIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = word(random);
+        }
+        // Zipf: la palabra de rango r aparece con probabilidad proporcional a 1/r
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+
+        index = new PrefixIndex();
+        String[] sample = new String[PREFIXES];
+        LocalDateTime now = LocalDateTime.now();
+        for (int id = 0; id < titles; id++) {
+            String title = sentence(random, words, cumulative, total, 2 + random.nextInt(6));
+            // Fechas repartidas en los últimos tres años
+            index.put(id, title, now.minusMinutes(random.nextInt(3 * 365 * 24 * 60)));
+            if (id < PREFIXES) {
+                sample[id] = title;
+            }
+        }
+
+        prefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            String title = sample[random.nextInt(PREFIXES)];
+            prefixes[i] = title.substring(0, Math.min(title.length(), 1 + random.nextInt(8)));
+        }
+        System.out.println("\nÍndice de " + titles + " títulos: " + index.describe());
+    }
+
+    @Benchmark
+    public List<SuggestionDTO> complete() {
+        next = (next + 1) & (PREFIXES - 1);
+        return index.complete(prefixes[next], 10);
+    }
+
+    private static String sentence(Random random, String[] words, double[] cumulative, double total, int length) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            String word = words[rank < 0 ? -rank - 1 : rank];
+            sentence.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : " " + word);
+        }
+        return sentence.toString();
+    }
+
+    // Palabras de 4 a 10 letras, algunas con tilde
+    private static String word(Random random) {
+        String letters = "abcdefghijlmnoprstuvaeioáéíóúñ";
+        int length = 4 + random.nextInt(7);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+}
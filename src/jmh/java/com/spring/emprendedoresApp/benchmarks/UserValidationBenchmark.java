@@ -0,0 +1,57 @@
+package com.spring.emprendedoresApp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
+import com.spring.emprendedoresApp.models.validation.UserValidation;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+
+/**
+ * Validación de los datos de registro, con un usuario válido y con uno que falla todas las reglas.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserValidationBenchmark {
+
+    private UserValidation userValidation;
+    private UserEntity validUser;
+    private UserEntity invalidUser;
+
+    @Setup
+    public void setup() {
+        userValidation = new UserValidation();
+        validUser = BenchmarkFixtures.user();
+        invalidUser = new UserEntity();
+        invalidUser.setUsername("x");
+        invalidUser.setEmail("no-es-un-correo");
+        invalidUser.setPassword("corta");
+        invalidUser.setPhone("abc");
+        invalidUser.setCity("");
+        invalidUser.setCountry("");
+    }
+
+    @Benchmark
+    public ResponseDTO validateValidUser() {
+        return userValidation.validate(validUser);
+    }
+
+    @Benchmark
+    public ResponseDTO validateInvalidUser() {
+        return userValidation.validate(invalidUser);
+    }
+}
@@ -0,0 +1,89 @@
+package com.spring.emprendedoresApp.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Separación de lecturas y escrituras (solo con {@code datasource.routing.enabled=true}).
+ *
+ * El DataSource de la aplicación es un {@link LazyConnectionDataSourceProxy}: la conexión real se
+ * pide al ejecutar la primera sentencia, cuando ya se sabe si la transacción es readOnly. Las de
+ * solo lectura van al {@link ReplicaDataSourcePool}; el resto (y Flyway) a la principal.
+ * Los métodos de lectura de los repositorios de Spring Data ya son readOnly, igual que los
+ * servicios de listado, así que no hace falta marcar nada más.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    // Base de datos principal, configurada con spring.datasource.* y spring.datasource.hikari.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getReadYourWritesMs());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSourcePool replicaDataSourcePool(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                                       ReplicaProperties replicaProperties, ReadYourWritesTracker readYourWritesTracker) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        int index = 0;
+        for (ReplicaProperties.Replica replica : replicaProperties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica-" + index;
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            // Mismo tamaño que la principal si se ha fijado; si no, el valor por defecto de Hikari
+            if (primaryDataSource.getMaximumPoolSize() > 0) {
+                dataSource.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            }
+            dataSource.setConnectionTimeout(replicaProperties.getConnectionTimeoutMs());
+            // Una réplica caída al arrancar no impide el arranque: queda fuera hasta que responda
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setReadOnly(true);
+            replicas.put(name, dataSource);
+            index++;
+        }
+        return new ReplicaDataSourcePool(primaryDataSource, replicas, readYourWritesTracker,
+                properties.determineUsername(), properties.determinePassword());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSourcePool replicaDataSourcePool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        return routingDataSource(readYourWritesTracker.trackWrites(primaryDataSource), replicaDataSourcePool);
+    }
+
+    /**
+     * DataSource que entrega conexiones de {@code readOnly} a las transacciones de solo lectura
+     * y de {@code primary} al resto.
+     */
+    public static DataSource routingDataSource(DataSource primary, DataSource readOnly) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(readOnly);
+        return proxy;
+    }
+}
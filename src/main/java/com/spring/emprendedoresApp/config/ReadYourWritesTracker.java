@@ -0,0 +1,93 @@
+package com.spring.emprendedoresApp.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Recuerda qué clientes han escrito hace poco para que sus lecturas vayan a la principal durante
+ * una ventana configurable, en lugar de a una réplica que quizá aún no tenga sus cambios.
+ *
+ * El cliente es el usuario autenticado o, en peticiones anónimas (registro, login), la IP.
+ * Fuera de una petición HTTP (tareas programadas) no se registra nada.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.recentWriters = windowMs > 0
+                ? Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(windowMs)).maximumSize(100000).build()
+                : null;
+    }
+
+    /**
+     * Envuelve la base de datos principal: cada conexión pedida dentro de una transacción de
+     * escritura marca al cliente actual como escritor reciente.
+     */
+    public DataSource trackWrites(DataSource primary) {
+        if (recentWriters == null) {
+            return primary;
+        }
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                recordWriteIfInReadWriteTransaction();
+                return super.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                recordWriteIfInReadWriteTransaction();
+                return super.getConnection(username, password);
+            }
+        };
+    }
+
+    /**
+     * Indica si el cliente actual ha escrito dentro de la ventana.
+     */
+    public boolean wroteRecently() {
+        if (recentWriters == null) {
+            return false;
+        }
+        String client = currentClient();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+
+    private void recordWriteIfInReadWriteTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String client = currentClient();
+            if (client != null) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
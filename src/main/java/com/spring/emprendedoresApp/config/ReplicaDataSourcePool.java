@@ -0,0 +1,168 @@
+package com.spring.emprendedoresApp.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Origen de las conexiones de solo lectura: reparte en round-robin entre las réplicas sanas.
+ *
+ * Una réplica que falla al dar una conexión se marca como caída y se salta hasta que la
+ * comprobación periódica vuelva a validarla. Si no queda ninguna sana, o si el cliente ha
+ * escrito hace poco (ver {@link ReadYourWritesTracker}), la lectura va a la principal.
+ */
+public class ReplicaDataSourcePool extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSourcePool.class);
+
+    // Segundos de espera de Connection.isValid en la comprobación de salud
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    // Credenciales configuradas de la aplicación (spring.datasource.username/password)
+    private final String username;
+    private final String password;
+    private final ReadYourWritesTracker readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder primaryFallbacks = new LongAdder();
+    private final LongAdder readYourWritesReads = new LongAdder();
+
+    public ReplicaDataSourcePool(DataSource primary, Map<String, DataSource> replicas, ReadYourWritesTracker readYourWrites,
+                                 String username, String password) {
+        this.primary = primary;
+        this.username = username;
+        this.password = password;
+        this.readYourWrites = readYourWrites;
+        List<Replica> list = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> list.add(new Replica(name, dataSource)));
+        this.replicas = List.copyOf(list);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWrites.wroteRecently()) {
+            readYourWritesReads.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    // Los pools (Hikari) no admiten otras credenciales por conexión: con las configuradas equivale
+    // a getConnection(); con otras se rechaza sin tocar réplicas ni principal
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (Objects.equals(username, this.username) && Objects.equals(nullToEmpty(password), nullToEmpty(this.password))) {
+            return getConnection();
+        }
+        throw new SQLFeatureNotSupportedException("Las réplicas solo admiten las credenciales configuradas");
+    }
+
+    /**
+     * Valida cada réplica y actualiza su estado. Así vuelven al reparto las que se han recuperado.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.healthCheckIntervalMs:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUp(replica);
+                } else {
+                    markDown(replica, null);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    /**
+     * Estado y lecturas servidas por cada réplica, para el panel de administración.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        Map<String, Object> replicaStats = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("healthy", replica.healthy);
+            stats.put("reads", replica.reads.sum());
+            replicaStats.put(replica.name, stats);
+        }
+        description.put("replicas", replicaStats);
+        description.put("primaryFallbacks", primaryFallbacks.sum());
+        description.put("readYourWritesReads", readYourWritesReads.sum());
+        return description;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Réplica {} fuera del reparto de lecturas: {}", replica.name,
+                    cause != null ? cause.getMessage() : "la conexión no es válida");
+        }
+    }
+
+    private static void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("Réplica {} de nuevo en el reparto de lecturas", replica.name);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
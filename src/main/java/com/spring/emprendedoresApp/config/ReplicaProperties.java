@@ -0,0 +1,106 @@
+package com.spring.emprendedoresApp.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Réplicas de solo lectura ({@code datasource.routing.*} en application.properties).
+ *
+ * Con {@code enabled=true}, las transacciones {@code readOnly} se reparten entre las réplicas
+ * sanas y el resto va a la base de datos principal ({@code spring.datasource.*}).
+ */
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    // Milisegundos durante los que un usuario lee de la principal tras escribir (0 = desactivado)
+    private long readYourWritesMs = 0;
+
+    // Espera máxima por una conexión de réplica antes de pasar a la siguiente
+    private long connectionTimeoutMs = 2000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getReadYourWritesMs() {
+        return readYourWritesMs;
+    }
+
+    public void setReadYourWritesMs(long readYourWritesMs) {
+        this.readYourWritesMs = readYourWritesMs;
+    }
+
+    public long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * Una réplica. Usuario y contraseña son opcionales: por defecto, los de la principal.
+     */
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.spring.emprendedoresApp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Habilita las tareas @Scheduled (recarga de claves JWT, limpiezas periódicas, etc.)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
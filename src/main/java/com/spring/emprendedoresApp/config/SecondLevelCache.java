@@ -0,0 +1,133 @@
+package com.spring.emprendedoresApp.config;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * CacheManager JCache (Caffeine, en memoria) que usa Hibernate como caché de segundo nivel.
+ *
+ * Crea una caché por región de {@link SecondLevelCacheProperties} con su tamaño y caducidad,
+ * y publica sus aciertos, fallos y tasa de aciertos en Micrometer (hibernate.cache.*, etiqueta region).
+ */
+@Component
+public class SecondLevelCache implements MeterBinder {
+
+    // Cada contexto de Spring (varios en los tests) tiene su propio CacheManager
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    // Métrica publicada -> atributo JCache de donde se lee
+    private static final Map<String, String> COUNTERS = Map.of(
+            "hits", "CacheHits", "misses", "CacheMisses", "puts", "CachePuts", "evictions", "CacheEvictions");
+
+    @Autowired
+    private SecondLevelCacheProperties properties;
+
+    @Value("${spring.application.name:emprendedoresApp}")
+    private String applicationName;
+
+    private CacheManager cacheManager;
+
+    @PostConstruct
+    public void init() {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = URI.create(applicationName + ".hibernate." + INSTANCES.incrementAndGet());
+        cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            if (region.getTtlSeconds() > 0) {
+                configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.getTtlSeconds())));
+            }
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+    }
+
+    public CacheManager getCacheManager() {
+        return cacheManager;
+    }
+
+    // hibernate.cache.hits, .misses, .puts y .evictions por región (etiqueta region), más la tasa de aciertos
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : properties.getRegions().keySet()) {
+            for (Map.Entry<String, String> counter : COUNTERS.entrySet()) {
+                FunctionCounter.builder("hibernate.cache." + counter.getKey(), this, cache -> cache.statistic(region, counter.getValue()))
+                        .tag("region", region)
+                        .register(registry);
+            }
+            Gauge.builder("hibernate.cache.hit.ratio", this, cache -> cache.hitRatio(region))
+                    .description("Aciertos sobre el total de lecturas de la región")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Lecturas, aciertos, fallos y tamaño máximo de cada región, para el panel de administración.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        properties.getRegions().forEach((region, config) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("maxSize", config.getMaxSize());
+            stats.put("ttlSeconds", config.getTtlSeconds());
+            COUNTERS.forEach((counter, attribute) -> stats.put(counter, statistic(region, attribute)));
+            stats.put("hitRatio", hitRatio(region));
+            description.put(region, stats);
+        });
+        return description;
+    }
+
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+
+    private double hitRatio(String region) {
+        long hits = statistic(region, "CacheHits");
+        long total = hits + statistic(region, "CacheMisses");
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    // Las estadísticas JCache solo se publican como MBean (javax.cache:type=CacheStatistics)
+    private long statistic(String region, String attribute) {
+        if (cacheManager.isClosed()) {
+            return 0;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+                    + cacheManager.getURI() + ",Cache=" + region);
+            return ((Number) server.getAttribute(name, attribute)).longValue();
+        } catch (JMException e) {
+            return 0;
+        }
+    }
+}
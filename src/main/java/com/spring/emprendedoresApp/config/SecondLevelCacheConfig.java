@@ -0,0 +1,16 @@
+package com.spring.emprendedoresApp.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Entrega a Hibernate el CacheManager ya creado, con una caché por región configurada
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCache secondLevelCache) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCache.getCacheManager());
+    }
+}
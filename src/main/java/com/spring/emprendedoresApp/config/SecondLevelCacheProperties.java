@@ -0,0 +1,54 @@
+package com.spring.emprendedoresApp.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Regiones de la caché de segundo nivel de Hibernate ({@code hibernateCache.regions.*} en
+ * application.properties), cada una con su tamaño máximo y su caducidad.
+ *
+ * Toda región que use Hibernate debe estar declarada aquí: una región sin configurar hace
+ * fallar el arranque en lugar de crearse con valores por defecto.
+ */
+@Component
+@ConfigurationProperties(prefix = "hibernate-cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    public static class Region {
+
+        // Entradas máximas; al superarlo se descartan las menos usadas
+        private long maxSize = 1000;
+
+        // Segundos desde que se escribe una entrada hasta que caduca (0 = no caduca)
+        private long ttlSeconds = 0;
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+}
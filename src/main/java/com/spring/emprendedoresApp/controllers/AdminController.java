@@ -0,0 +1,176 @@
+package com.spring.emprendedoresApp.controllers;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.spring.emprendedoresApp.config.ReplicaDataSourcePool;
+import com.spring.emprendedoresApp.config.SecondLevelCache;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.security.RateLimiter;
+import com.spring.emprendedoresApp.security.RejectedTokenCache;
+import com.spring.emprendedoresApp.security.VerifiedTokenCache;
+import com.spring.emprendedoresApp.services.impl.CommentCountReconciler;
+import com.spring.emprendedoresApp.services.impl.ListingCountCache;
+import com.spring.emprendedoresApp.services.impl.PostSearchIndex;
+import com.spring.emprendedoresApp.services.impl.SoftDeleteReaper;
+import com.spring.emprendedoresApp.services.impl.SuggestionIndex;
+import com.spring.emprendedoresApp.services.impl.PasswordHashingServiceImpl;
+
+@RestController
+@RequestMapping("/api/admin") // Ruta base para las estadísticas de operación (solo ADMIN)
+public class AdminController {
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private RejectedTokenCache rejectedTokenCache;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ListingCountCache listingCountCache;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private SoftDeleteReaper softDeleteReaper;
+
+    // Solo existe con datasource.routing.enabled=true
+    @Autowired(required = false)
+    private ReplicaDataSourcePool replicaDataSourcePool;
+
+    // Endpoint para consultar aciertos, fallos y descartes de la caché de tokens verificados
+    @GetMapping("/token-cache")
+    public ResponseEntity<Map<String, Object>> getTokenCacheStats() {
+        return new ResponseEntity<>(verifiedTokenCache.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para consultar los rechazos de tokens por motivo y los aciertos de la caché negativa
+    @GetMapping("/rejected-tokens")
+    public ResponseEntity<Map<String, Object>> getRejectedTokenStats() {
+        return new ResponseEntity<>(rejectedTokenCache.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para consultar las peticiones admitidas y rechazadas por cada grupo de rate limit
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimitStats() {
+        return new ResponseEntity<>(rateLimiter.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para consultar la cola, la latencia y los rechazos del pool de hashing de contraseñas
+    @GetMapping("/password-hashing")
+    public ResponseEntity<Map<String, Object>> getPasswordHashingStats() {
+        return new ResponseEntity<>(passwordHashingService.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para ver cuántos usuarios tienen su contraseña guardada con cada coste BCrypt
+    @GetMapping("/password-costs")
+    public ResponseEntity<Map<String, Object>> getPasswordCostDistribution() {
+        Map<String, Long> usersByCost = new TreeMap<>();
+        for (Object[] row : userRepository.countByPasswordCost()) {
+            usersByCost.put(String.valueOf(row[0]), ((Number) row[1]).longValue());
+        }
+        Map<String, Object> response = new TreeMap<>();
+        response.put("currentCost", passwordHashingService.getCost());
+        response.put("usersByCost", usersByCost);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // Endpoint para ver los totales en caché de los listados paginados y su antigüedad
+    @GetMapping("/listing-counts")
+    public ResponseEntity<Map<String, Object>> getListingCounts() {
+        return new ResponseEntity<>(listingCountCache.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para ver el estado de las réplicas de lectura y cuántas lecturas ha servido cada una
+    @GetMapping("/datasources")
+    public ResponseEntity<Map<String, Object>> getDataSourceRouting() {
+        if (replicaDataSourcePool == null) {
+            return new ResponseEntity<>(Map.of("routing", false), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(replicaDataSourcePool.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para consultar aciertos y fallos de cada región de la caché de segundo nivel de Hibernate
+    @GetMapping("/entity-cache")
+    public ResponseEntity<Map<String, Object>> getEntityCacheStats() {
+        return new ResponseEntity<>(secondLevelCache.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para ver la última reconciliación de los contadores de comentarios
+    @GetMapping("/comment-counts")
+    public ResponseEntity<Map<String, Object>> getCommentCountReconciliation() {
+        return new ResponseEntity<>(commentCountReconciler.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para lanzar la reconciliación sin esperar a la programada (devuelve los contadores corregidos)
+    @PostMapping("/comment-counts/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileCommentCounts() {
+        return new ResponseEntity<>(Map.of("repaired", commentCountReconciler.reconcile()), HttpStatus.OK);
+    }
+
+    // Endpoint para ver el tamaño del índice de búsqueda y el estado de su copia en disco
+    @GetMapping("/search-index")
+    public ResponseEntity<Map<String, Object>> getSearchIndex() {
+        return new ResponseEntity<>(postSearchIndex.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para reconstruir el índice de búsqueda desde la base de datos
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() throws IOException {
+        postSearchIndex.rebuild();
+        return new ResponseEntity<>(postSearchIndex.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para ver las entradas del autocompletado y su memoria estimada (total y por entrada)
+    @GetMapping("/suggest-index")
+    public ResponseEntity<Map<String, Object>> getSuggestionIndex() {
+        return new ResponseEntity<>(suggestionIndex.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para recargar el autocompletado desde la base de datos
+    @PostMapping("/suggest-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSuggestionIndex() {
+        suggestionIndex.rebuild();
+        return new ResponseEntity<>(suggestionIndex.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para ver cuántas publicaciones y usuarios borrados quedan por purgar y la última purga
+    @GetMapping("/soft-delete")
+    public ResponseEntity<Map<String, Object>> getSoftDeleteReaper() {
+        return new ResponseEntity<>(softDeleteReaper.describe(), HttpStatus.OK);
+    }
+
+    // Endpoint para purgar los borrados sin esperar a la ejecución programada (devuelve las filas eliminadas)
+    @PostMapping("/soft-delete/reap")
+    public ResponseEntity<Map<String, Integer>> reapSoftDeleted() {
+        return new ResponseEntity<>(softDeleteReaper.reap(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,35 @@
+package com.spring.emprendedoresApp.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
+import com.spring.emprendedoresApp.services.InvalidCursorException;
+import com.spring.emprendedoresApp.services.PasswordHashingBusyException;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Pool de hashing saturado: 503 inmediato con Retry-After en lugar de bloquear el hilo de la petición
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ResponseDTO> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        ResponseDTO response = new ResponseDTO();
+        response.setNumOfError(1);
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    // Cursor de paginación manipulado o de otra versión: 400 en lugar de 500
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ResponseDTO> handleInvalidCursor(InvalidCursorException e) {
+        ResponseDTO response = new ResponseDTO();
+        response.setNumOfError(1);
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
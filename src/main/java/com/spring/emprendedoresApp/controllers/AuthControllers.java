@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.spring.emprendedoresApp.models.dtos.LoginDTO;
+import com.spring.emprendedoresApp.models.dtos.RefreshTokenDTO;
 import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
 import com.spring.emprendedoresApp.services.IAuthService;
@@ -44,4 +45,18 @@ public class AuthControllers {
 			return new ResponseEntity<>(login, HttpStatus.UNAUTHORIZED);
 		}
 	}
+
+	// Renueva el access token con un refresh token (rotación: el refresh token usado deja de ser válido)
+	@PostMapping("/refresh")
+	private ResponseEntity<HashMap<String, String>> refresh(@RequestBody RefreshTokenDTO refreshRequest) throws Exception {
+
+		HashMap<String, String> refresh = authService.refresh(refreshRequest);
+
+		if (refresh.containsKey("jwt")) {
+			return new ResponseEntity<>(refresh, HttpStatus.OK);
+		}
+		else {
+			return new ResponseEntity<>(refresh, HttpStatus.UNAUTHORIZED);
+		}
+	}
 }
@@ -1,15 +1,23 @@
 package com.spring.emprendedoresApp.controllers;
 
+import com.spring.emprendedoresApp.models.dtos.ImportResultDTO;
 import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
 import com.spring.emprendedoresApp.services.ICommentService;
+import com.spring.emprendedoresApp.services.IExportService;
+import com.spring.emprendedoresApp.services.IImportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -19,6 +27,12 @@ public class CommentController {
     @Autowired
     private ICommentService commentService;  // Inyección del servicio de comentarios
 
+    @Autowired
+    private IImportService importService;  // Importación masiva en NDJSON
+
+    @Autowired
+    private IExportService exportService;  // Exportación completa en NDJSON
+
     // Endpoint para crear un nuevo comentario
     @PostMapping("/create")  // Ruta para crear un comentario con la publicación en el cuerpo
     public ResponseEntity<?> create(@Valid @RequestBody CommentEntity comment, BindingResult result) {
@@ -36,6 +50,19 @@ public class CommentController {
         return new ResponseEntity<>(createdComment, HttpStatus.CREATED);
     }
 
+    // Endpoint de importación masiva (solo ADMIN): cuerpo NDJSON con un comentario JSON por línea
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportResultDTO> importComments(InputStream body) throws IOException {
+        return new ResponseEntity<>(importService.importComments(body), HttpStatus.OK);
+    }
+
+    // Endpoint de exportación completa (solo ADMIN): un comentario JSON por línea, gzip si el cliente lo acepta
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return NdjsonExport.response(acceptEncoding, "comments.ndjson", exportService::exportComments);
+    }
+
     // Endpoint para obtener todos los comentarios
     @GetMapping  // Ruta para obtener todos los comentarios
     public ResponseEntity<List<CommentEntity>> getAllComments() {
@@ -0,0 +1,65 @@
+package com.spring.emprendedoresApp.controllers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Respuesta de las exportaciones NDJSON (/api/posts/export, /api/comments/export, /api/users/export).
+ *
+ * El cuerpo se escribe mientras se lee la base de datos, fuera del hilo de la petición. Si el
+ * cliente envía "Accept-Encoding: gzip" la salida se comprime al vuelo (Content-Encoding: gzip).
+ */
+final class NdjsonExport {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private NdjsonExport() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> response(String acceptEncoding, String fileName, Exporter exporter) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, BUFFER_SIZE);
+                exporter.export(compressed);
+                compressed.finish();
+            } else {
+                exporter.export(out);
+            }
+        });
+    }
+
+    // "gzip" entre las codificaciones aceptadas, salvo que venga con q=0
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // Escribe la exportación completa en la salida
+    interface Exporter {
+        long export(OutputStream out) throws IOException;
+    }
+}
@@ -1,19 +1,30 @@
 package com.spring.emprendedoresApp.controllers;
 
+import com.spring.emprendedoresApp.models.dtos.CursorPageDTO;
+import com.spring.emprendedoresApp.models.dtos.ImportResultDTO;
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.models.dtos.SuggestionsDTO;
 import com.spring.emprendedoresApp.persistence.entities.PostEntity;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.services.IExportService;
+import com.spring.emprendedoresApp.services.IImportService;
 import com.spring.emprendedoresApp.services.IPostService;
 import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -26,6 +37,12 @@ public class PostController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private IImportService importService;
+
+    @Autowired
+    private IExportService exportService;
+
     // Crear una publicación con validación de los campos
     @PostMapping("/create")
     public ResponseEntity<?> createPost(@Valid @RequestBody PostEntity post, BindingResult result) {
@@ -39,7 +56,7 @@ public class PostController {
         }
 
         Long authorId = post.getAuthor().getId();
-        UserEntity author = userRepository.findById(authorId).orElse(null);
+        UserEntity author = userRepository.findActiveById(authorId).orElse(null);
 
         if (author == null) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -50,20 +67,58 @@ public class PostController {
         return new ResponseEntity<>(createdPost, HttpStatus.CREATED);
     }
 
+    // Importación masiva de publicaciones (solo ADMIN): cuerpo NDJSON con una publicación JSON por línea.
+    // Se procesa en streaming y por lotes; los registros inválidos se informan sin detener la carga
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportResultDTO> importPosts(InputStream body) throws IOException {
+        return new ResponseEntity<>(importService.importPosts(body), HttpStatus.OK);
+    }
+
+    // Exportación completa de publicaciones (solo ADMIN) en NDJSON, escrita mientras se lee la base de datos;
+    // comprimida con gzip si el cliente lo acepta (Accept-Encoding)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return NdjsonExport.response(acceptEncoding, "posts.ndjson", exportService::exportPosts);
+    }
+
     // Obtener todas las publicaciones
     @GetMapping
-    public ResponseEntity<List<PostEntity>> getAllPosts() {
-        List<PostEntity> posts = postService.getAllPosts();
+    public ResponseEntity<List<PostSummaryDTO>> getAllPosts() {
+        List<PostSummaryDTO> posts = postService.getAllPosts();
         return new ResponseEntity<>(posts, HttpStatus.OK);
     }
 
-    // Obtener publicaciones por autor
+    // Obtener publicaciones por autor, paginadas por cursor (la respuesta incluye "nextCursor" para la siguiente página)
     @GetMapping("/author/{authorId}")
-    public ResponseEntity<List<PostEntity>> getPostsByAuthor(@PathVariable Long authorId) {
-        List<PostEntity> posts = postService.getPostsByAuthor(authorId);
+    public ResponseEntity<CursorPageDTO<PostSummaryDTO>> getPostsByAuthor(
+            @PathVariable Long authorId,
+            @RequestParam(required = false) String cursor,   // Cursor devuelto por la página anterior (vacío = primera página)
+            @RequestParam(defaultValue = "20") int size)     // Tamaño de la página (máximo 100)
+    {
+        CursorPageDTO<PostSummaryDTO> posts = postService.getPostsByAuthor(authorId, cursor, size);
         return new ResponseEntity<>(posts, HttpStatus.OK);
     }
 
+    // Autocompletado mientras se escribe: títulos de publicaciones publicadas y nombres de usuario que empiezan
+    // por "q" (sin distinguir mayúsculas ni tildes), los más recientes primero; se responde desde memoria
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestionsDTO> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int size)     // Sugerencias de cada tipo (máximo 20)
+    {
+        return new ResponseEntity<>(postService.suggest(prefix, size), HttpStatus.OK);
+    }
+
+    // Buscar publicaciones por título y contenido (sin distinguir mayúsculas ni tildes), las más relevantes primero
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSummaryDTO>> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int size)     // Número máximo de resultados (máximo 100)
+    {
+        return new ResponseEntity<>(postService.searchPosts(query, size), HttpStatus.OK);
+    }
+
  // Modificación en el controlador
     @PutMapping("/{id}")
     public ResponseEntity<?> updatePost(@PathVariable Long id, @Valid @RequestBody PostEntity updatedPost, BindingResult result) {
@@ -115,14 +170,25 @@ public class PostController {
         return new ResponseEntity<>(validatedPost, HttpStatus.OK);
     }
     
-    // Endpoint para obtener publicaciones filtradas por postStatus y paginadas
+    // Endpoint para obtener publicaciones filtradas por postStatus y paginadas.
+    // Por defecto pagina por cursor ("nextCursor"); con "page" se usa la paginación por número de página anterior.
     @GetMapping("/status/{status}")
-    public ResponseEntity<Page<PostEntity>> getPostsByStatus(
-            @PathVariable PostEntity.PostStatus status,  // El valor del postStatus se pasa como parámetro en la URL
-            @RequestParam(defaultValue = "0") int page,   // Página actual (default 0)
-            @RequestParam(defaultValue = "10") int size)  // Tamaño de la página (default 10)
+    public ResponseEntity<?> getPostsByStatus(
+            @PathVariable PostEntity.PostStatus status,   // El valor del postStatus se pasa como parámetro en la URL
+            @RequestParam(required = false) String cursor, // Cursor devuelto por la página anterior (vacío = primera página)
+            @RequestParam(required = false) Integer page,  // Página por número (compatibilidad; cada vez más lenta al avanzar)
+            @RequestParam(defaultValue = "10") int size,   // Tamaño de la página (default 10)
+            @RequestParam(defaultValue = "false") boolean withTotal) // Con page: incluir el total (en caché) de publicaciones
     {
-        Page<PostEntity> posts = postService.getPostsByStatus(status, page, size);
+        if (page != null) {
+            if (withTotal) {
+                Page<PostSummaryDTO> posts = postService.getPostsByStatusWithTotal(status, page, size);
+                return new ResponseEntity<>(posts, HttpStatus.OK);
+            }
+            Slice<PostSummaryDTO> posts = postService.getPostsByStatus(status, page, size);
+            return new ResponseEntity<>(posts, HttpStatus.OK);
+        }
+        CursorPageDTO<PostSummaryDTO> posts = postService.getPostsByStatus(status, cursor, size);
         return new ResponseEntity<>(posts, HttpStatus.OK);
     }
 }
@@ -2,17 +2,20 @@ package com.spring.emprendedoresApp.controllers;
 
 import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.services.IExportService;
 import com.spring.emprendedoresApp.services.IUserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -27,6 +30,9 @@ public class UserController {
 
     @Autowired
     private IUserService userService; // Inyección del servicio de usuarios
+
+    @Autowired
+    private IExportService exportService; // Exportación completa en NDJSON
     
     // Endpoint para obtener el usuario actual y sus roles
     @GetMapping("/me")
@@ -52,6 +58,13 @@ public class UserController {
         return new ResponseEntity<>(userService.createUser(user, roleName), HttpStatus.CREATED);
     }
 
+    // Endpoint de exportación completa (solo ADMIN): un usuario JSON por línea, gzip si el cliente lo acepta
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return NdjsonExport.response(acceptEncoding, "users.ndjson", exportService::exportUsers);
+    }
+
     // Endpoint para obtener todos los usuarios
     @GetMapping
     public ResponseEntity<List<UserEntity>> getAllUsers() {
@@ -104,10 +117,14 @@ public class UserController {
         return isDeleted ? new ResponseEntity<>(HttpStatus.NO_CONTENT) : new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
 
-    // Endpoint para obtener una lista paginada de usuarios
+    // Endpoint para obtener una lista paginada de usuarios (sin total salvo que se pida con withTotal=true)
     @GetMapping("/page/{page}")
-    public Page<UserEntity> listPageable(@PathVariable Integer page) {
+    public Slice<UserEntity> listPageable(@PathVariable Integer page,
+                                          @RequestParam(defaultValue = "false") boolean withTotal) {
         Pageable pageable = PageRequest.of(page, 5); // Paginación con 5 usuarios por página
+        if (withTotal) {
+            return userService.findAllWithTotal(pageable); // Página con el total tomado de la caché de recuentos
+        }
         return userService.findAll(pageable); // Retorna la página solicitada de usuarios
     }
     
@@ -0,0 +1,50 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Una línea de la importación masiva de comentarios (NDJSON). El usuario es opcional, igual
+ * que en la creación individual de comentarios.
+ */
+public class CommentImportDTO {
+
+	private String text;
+
+	private Long postId;
+
+	private Long userId;
+
+	private LocalDateTime creationDate;
+
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text;
+	}
+
+	public Long getPostId() {
+		return postId;
+	}
+
+	public void setPostId(Long postId) {
+		this.postId = postId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public LocalDateTime getCreationDate() {
+		return creationDate;
+	}
+
+	public void setCreationDate(LocalDateTime creationDate) {
+		this.creationDate = creationDate;
+	}
+}
@@ -0,0 +1,49 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista de lectura de un comentario para la exportación. Se construye directamente en la
+ * consulta JPQL: la publicación y el usuario son las claves foráneas de la fila, sin cargar
+ * ninguna de las dos entidades.
+ */
+public class CommentSummaryDTO {
+
+	private final Long id;
+
+	private final String text;
+
+	private final LocalDateTime creationDate;
+
+	private final Long postId;
+
+	private final Long userId;
+
+	public CommentSummaryDTO(Long id, String text, LocalDateTime creationDate, Long postId, Long userId) {
+		this.id = id;
+		this.text = text;
+		this.creationDate = creationDate;
+		this.postId = postId;
+		this.userId = userId;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public LocalDateTime getCreationDate() {
+		return creationDate;
+	}
+
+	public Long getPostId() {
+		return postId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+}
@@ -0,0 +1,38 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.util.List;
+
+/**
+ * Página de un listado paginado por cursor (keyset). {@code nextCursor} es un token opaco que
+ * se envía tal cual en la siguiente petición; es null cuando no quedan más elementos.
+ */
+public class CursorPageDTO<T> {
+
+	private final List<T> content;
+
+	private final int size;
+
+	private final String nextCursor;
+
+	public CursorPageDTO(List<T> content, int size, String nextCursor) {
+		this.content = content;
+		this.size = size;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean isHasNext() {
+		return nextCursor != null;
+	}
+}
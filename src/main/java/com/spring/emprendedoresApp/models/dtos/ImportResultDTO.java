@@ -0,0 +1,85 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva: registros leídos, importados y rechazados, y el detalle
+ * de los primeros errores (línea del fichero y motivo). Solo se guardan {@code maxReportedErrors}
+ * errores para que una carga de millones de líneas defectuosas no agote la memoria;
+ * {@code failed} los cuenta todos.
+ */
+public class ImportResultDTO {
+
+	private long received;
+
+	private long imported;
+
+	private long failed;
+
+	private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+	private final int maxReportedErrors;
+
+	public ImportResultDTO(int maxReportedErrors) {
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	public void addReceived() {
+		received++;
+	}
+
+	public void addImported(long count) {
+		imported += count;
+	}
+
+	public void addError(long line, String message) {
+		failed++;
+		if (errors.size() < maxReportedErrors) {
+			errors.add(new ImportErrorDTO(line, message));
+		}
+	}
+
+	public long getReceived() {
+		return received;
+	}
+
+	public long getImported() {
+		return imported;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public List<ImportErrorDTO> getErrors() {
+		return errors;
+	}
+
+	public boolean isErrorsTruncated() {
+		return failed > errors.size();
+	}
+
+	/**
+	 * Registro rechazado: número de línea (desde 1) en el cuerpo NDJSON y motivo.
+	 */
+	public static class ImportErrorDTO {
+
+		private final long line;
+
+		private final String message;
+
+		public ImportErrorDTO(long line, String message) {
+			this.line = line;
+			this.message = message;
+		}
+
+		public long getLine() {
+			return line;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+	}
+}
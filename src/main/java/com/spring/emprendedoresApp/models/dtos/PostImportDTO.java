@@ -0,0 +1,93 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.time.LocalDateTime;
+
+import com.spring.emprendedoresApp.persistence.entities.PostEntity.PostStatus;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity.PostType;
+
+/**
+ * Una línea de la importación masiva de publicaciones (NDJSON). Las fechas son opcionales:
+ * si se indican se conservan las de la plataforma de origen.
+ */
+public class PostImportDTO {
+
+	private String title;
+
+	private String content;
+
+	private PostStatus postStatus;
+
+	private PostType postType;
+
+	private boolean valido;
+
+	private LocalDateTime creationDate;
+
+	private LocalDateTime validationDate;
+
+	private Long authorId;
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getContent() {
+		return content;
+	}
+
+	public void setContent(String content) {
+		this.content = content;
+	}
+
+	public PostStatus getPostStatus() {
+		return postStatus;
+	}
+
+	public void setPostStatus(PostStatus postStatus) {
+		this.postStatus = postStatus;
+	}
+
+	public PostType getPostType() {
+		return postType;
+	}
+
+	public void setPostType(PostType postType) {
+		this.postType = postType;
+	}
+
+	public boolean isValido() {
+		return valido;
+	}
+
+	public void setValido(boolean valido) {
+		this.valido = valido;
+	}
+
+	public LocalDateTime getCreationDate() {
+		return creationDate;
+	}
+
+	public void setCreationDate(LocalDateTime creationDate) {
+		this.creationDate = creationDate;
+	}
+
+	public LocalDateTime getValidationDate() {
+		return validationDate;
+	}
+
+	public void setValidationDate(LocalDateTime validationDate) {
+		this.validationDate = validationDate;
+	}
+
+	public Long getAuthorId() {
+		return authorId;
+	}
+
+	public void setAuthorId(Long authorId) {
+		this.authorId = authorId;
+	}
+}
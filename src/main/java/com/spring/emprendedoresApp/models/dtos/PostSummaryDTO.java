@@ -0,0 +1,95 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.time.LocalDateTime;
+
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+
+/**
+ * Vista de lectura de una publicación para los listados. Se construye directamente en la
+ * consulta JPQL (con el autor en el mismo JOIN), por lo que un listado no carga entidades,
+ * ni el rol del autor, ni los comentarios: su número viene de la columna posts.comment_count.
+ */
+public class PostSummaryDTO {
+
+	private final Long id;
+
+	private final String title;
+
+	private final String content;
+
+	private final LocalDateTime creationDate;
+
+	private final LocalDateTime validationDate;
+
+	private final boolean valido;
+
+	private final PostEntity.PostStatus postStatus;
+
+	private final PostEntity.PostType postType;
+
+	private final Long authorId;
+
+	private final String authorUsername;
+
+	private final int commentCount;
+
+	public PostSummaryDTO(Long id, String title, String content, LocalDateTime creationDate, LocalDateTime validationDate,
+			boolean valido, PostEntity.PostStatus postStatus, PostEntity.PostType postType, Long authorId, String authorUsername,
+			int commentCount) {
+		this.id = id;
+		this.title = title;
+		this.content = content;
+		this.creationDate = creationDate;
+		this.validationDate = validationDate;
+		this.valido = valido;
+		this.postStatus = postStatus;
+		this.postType = postType;
+		this.authorId = authorId;
+		this.authorUsername = authorUsername;
+		this.commentCount = commentCount;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public String getContent() {
+		return content;
+	}
+
+	public LocalDateTime getCreationDate() {
+		return creationDate;
+	}
+
+	public LocalDateTime getValidationDate() {
+		return validationDate;
+	}
+
+	public boolean isValido() {
+		return valido;
+	}
+
+	public PostEntity.PostStatus getPostStatus() {
+		return postStatus;
+	}
+
+	public PostEntity.PostType getPostType() {
+		return postType;
+	}
+
+	public Long getAuthorId() {
+		return authorId;
+	}
+
+	public String getAuthorUsername() {
+		return authorUsername;
+	}
+
+	public int getCommentCount() {
+		return commentCount;
+	}
+}
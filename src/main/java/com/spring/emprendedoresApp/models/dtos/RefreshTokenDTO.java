@@ -0,0 +1,14 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+public class RefreshTokenDTO {
+
+	private String refreshToken;
+
+	public String getRefreshToken() {
+		return refreshToken;
+	}
+
+	public void setRefreshToken(String refreshToken) {
+		this.refreshToken = refreshToken;
+	}
+}
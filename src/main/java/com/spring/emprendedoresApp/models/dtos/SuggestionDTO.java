@@ -0,0 +1,35 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Una sugerencia del autocompletado: el identificador de la publicación o del usuario, el texto
+ * tal como se muestra (título o nombre de usuario) y su fecha de creación o de registro, que
+ * decide el orden. Se construye directamente en la consulta JPQL al cargar el índice.
+ */
+public class SuggestionDTO {
+
+	private final Long id;
+
+	private final String text;
+
+	private final LocalDateTime date;
+
+	public SuggestionDTO(Long id, String text, LocalDateTime date) {
+		this.id = id;
+		this.text = text;
+		this.date = date;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public LocalDateTime getDate() {
+		return date;
+	}
+}
@@ -0,0 +1,27 @@
+package com.spring.emprendedoresApp.models.dtos;
+
+import java.util.List;
+
+/**
+ * Respuesta del autocompletado: títulos de publicaciones publicadas y nombres de usuario que
+ * empiezan por el texto escrito, de más reciente a más antiguo.
+ */
+public class SuggestionsDTO {
+
+	private final List<SuggestionDTO> posts;
+
+	private final List<SuggestionDTO> users;
+
+	public SuggestionsDTO(List<SuggestionDTO> posts, List<SuggestionDTO> users) {
+		this.posts = posts;
+		this.users = users;
+	}
+
+	public List<SuggestionDTO> getPosts() {
+		return posts;
+	}
+
+	public List<SuggestionDTO> getUsers() {
+		return users;
+	}
+}
@@ -11,8 +11,12 @@ import jakarta.validation.constraints.Size;
 @Table(name = "comments")
 public class CommentEntity {
 
+    // Identificadores reservados de 50 en 50 (optimizador pooled) en la tabla id_generators:
+    // a diferencia de IDENTITY, permite que Hibernate agrupe los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_ids")
+    @TableGenerator(name = "comment_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "comments", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
     
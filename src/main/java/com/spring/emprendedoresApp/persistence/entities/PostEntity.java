@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.PastOrPresent;
 import java.time.LocalDateTime;
 import java.util.Set;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
@@ -14,8 +15,12 @@ public class PostEntity {
 
     // ---------- Atributos de la entidad ----------
 
+    // Identificadores reservados de 50 en 50 (optimizador pooled) en la tabla id_generators:
+    // a diferencia de IDENTITY, permite que Hibernate agrupe los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_ids")
+    @TableGenerator(name = "post_ids", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "posts", allocationSize = 50)
     @Column(name = "post_id")
     private Long id;
 
@@ -55,6 +60,17 @@ public class PostEntity {
     @NotNull(message = "El autor no puede ser nulo")
     private UserEntity author;
 
+    // Comentarios de la publicación, mantenido en la base de datos con incrementos atómicos
+    // (PostRepository.addToCommentCount); Hibernate nunca lo sobrescribe al actualizar la publicación
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount;
+
+    // Borrado lógico: fecha en que se borró (null = activa). Solo la escribe PostRepository.softDelete;
+    // SoftDeleteReaper purga después la fila y sus comentarios
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JsonManagedReference("post-comments") // Serializa los comentarios desde la perspectiva de la publicación
     private Set<CommentEntity> comments;
@@ -187,6 +203,14 @@ public class PostEntity {
         this.author = author;
     }
 
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
     public Set<CommentEntity> getComments() {
         return comments;
     }
@@ -2,10 +2,16 @@ package com.spring.emprendedoresApp.persistence.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+// Los roles no se modifican nunca (solo se insertan al arrancar): entidad inmutable y caché de segundo nivel de solo lectura
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "roles")
 public class RoleEntity {
 
     @Id
@@ -5,12 +5,16 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
 @Table(name = "users")
+// Caché de segundo nivel de lectura-escritura: las búsquedas por id no van a la base de datos
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class UserEntity {
 
     @Id
@@ -56,6 +60,12 @@ public class UserEntity {
     @Column(name = "registration_date", columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime registrationDate;
 
+    // Borrado lógico: fecha en que se borró (null = activo). Solo la escribe UserRepository.softDelete;
+    // SoftDeleteReaper purga después sus publicaciones, comentarios y refresh tokens, y la fila
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
     // Cambia el tipo a String (sin valor por defecto)
     @Column(name = "user_type")
     private String userTyp;
@@ -65,12 +75,9 @@ public class UserEntity {
     @JsonIgnore
     private Set<CommentEntity> comments;
 
+    // El rol no tiene valor por defecto: lo asignan los servicios con RoleRegistry
     @PrePersist
     public void prePersist() {
-        if (this.role == null) {
-            this.role = new RoleEntity();
-            this.role.setRoleName(RoleEntity.RoleName.ROLE_USER); // Rol por defecto
-        }
         if (this.registrationDate == null) {
             this.registrationDate = LocalDateTime.now();
         }
@@ -153,6 +160,10 @@ public class UserEntity {
         this.registrationDate = registrationDate;
     }
 
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
     public String getUserType() {
         return userTyp;
     }
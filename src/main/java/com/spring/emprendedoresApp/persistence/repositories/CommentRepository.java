@@ -1,15 +1,70 @@
 package com.spring.emprendedoresApp.persistence.repositories;
 
+import com.spring.emprendedoresApp.models.dtos.CommentSummaryDTO;
 import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
-    // Método para obtener una lista de comentarios de una publicación específica
+    // Comentarios visibles: ni su publicación, ni el autor de esta, ni quien comenta están borrados (borrado
+    // lógico, pendientes de purgar). Los comentarios anónimos no tienen usuario, de ahí el LEFT JOIN
+    String VISIBLE_FROM = "FROM CommentEntity c JOIN c.post p JOIN p.author a LEFT JOIN c.user u "
+            + "WHERE p.deletedAt IS NULL AND a.deletedAt IS NULL AND u.deletedAt IS NULL ";
+
+    // Todos los comentarios visibles (findAll también devuelve los de publicaciones y usuarios borrados)
+    @Query("SELECT c " + VISIBLE_FROM)
+    List<CommentEntity> findAllVisible();
+
+    // Método para obtener una lista de comentarios de una publicación específica (ninguno si está borrada)
+    @Query("SELECT c " + VISIBLE_FROM + "AND p.id = :postId")
     List<CommentEntity> findByPostId(Long postId);  // Obtener comentarios por el ID de la publicación
 
+    // Publicación de un comentario sin cargar el comentario ni la publicación, para ajustar su contador
+    @Query("SELECT c.post.id FROM CommentEntity c WHERE c.id = :id")
+    Optional<Long> findPostIdById(Long id);
+
+    // Borra un comentario y devuelve las filas borradas: con dos borrados simultáneos del mismo
+    // comentario solo uno obtiene 1, así que el contador de la publicación se descuenta una sola vez
+    @Modifying
+    @Query("DELETE FROM CommentEntity c WHERE c.id = :id")
+    int removeById(Long id);
+
+    // Comentarios de la lista agrupados por publicación (postId, total), para descontarlos antes de purgarlos
+    @Query("SELECT c.post.id, COUNT(c) FROM CommentEntity c WHERE c.id IN :ids GROUP BY c.post.id")
+    List<Object[]> countByPostForIds(Collection<Long> ids);
+
+    // Exportación NDJSON: todos los comentarios visibles como proyección (sin cargar publicación ni
+    // usuario como entidades), por bloques de filas
+    @Query("SELECT new com.spring.emprendedoresApp.models.dtos.CommentSummaryDTO(c.id, c.text, c.creationDate, p.id, u.id) "
+            + VISIBLE_FROM + "ORDER BY c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PostRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CommentSummaryDTO> streamAllSummaries();
+
+    // ---------- Purga por SoftDeleteReaper de los comentarios de publicaciones y usuarios borrados ----------
+
+    @Query("SELECT c.id FROM CommentEntity c WHERE c.post.id IN :postIds")
+    List<Long> findIdsByPostIds(Collection<Long> postIds, Limit limit);
+
+    @Query("SELECT c.id FROM CommentEntity c WHERE c.user.id IN :userIds")
+    List<Long> findIdsByUserIds(Collection<Long> userIds, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM CommentEntity c WHERE c.id IN :ids")
+    int purgeByIds(Collection<Long> ids);
 }
@@ -1,21 +1,147 @@
 package com.spring.emprendedoresApp.persistence.repositories;
 
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.models.dtos.SuggestionDTO;
 import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
-    // Método para obtener una lista de publicaciones por el ID del autor
-    List<PostEntity> findByAuthorId(Long authorId);  // Obtener publicaciones por el ID del autor
-    
- // Método para obtener publicaciones filtradas por postStatus
-    Page<PostEntity> findByPostStatus(PostEntity.PostStatus postStatus, Pageable pageable);
+    // ---------- Listados: proyecciones en una sola consulta (autor en el mismo JOIN, sin comentarios) ----------
+    // Ninguno devuelve publicaciones borradas ni de autores borrados (borrado lógico, pendientes de purgar)
 
+    String SUMMARY_SELECT = "SELECT new com.spring.emprendedoresApp.models.dtos.PostSummaryDTO("
+            + "p.id, p.title, p.content, p.creationDate, p.validationDate, p.isValido, p.postStatus, p.postType, a.id, a.username, p.commentCount) "
+            + "FROM PostEntity p JOIN p.author a WHERE p.deletedAt IS NULL AND a.deletedAt IS NULL ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.creationDate DESC, p.id DESC")
+    List<PostSummaryDTO> findAllSummaries();
+
+    // Exportación NDJSON: todas las publicaciones en orden de clave primaria, leídas de la base de datos
+    // de EXPORT_FETCH_SIZE en EXPORT_FETCH_SIZE filas (el Stream debe cerrarse, dentro de una transacción)
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PostSummaryDTO> streamAllSummaries();
+
+    // Autocompletado: título y fecha de las publicaciones publicadas, para cargar el índice de prefijos al arrancar
+    @Query("SELECT new com.spring.emprendedoresApp.models.dtos.SuggestionDTO(p.id, p.title, p.creationDate) "
+            + "FROM PostEntity p JOIN p.author a WHERE p.postType = com.spring.emprendedoresApp.persistence.entities.PostEntity.PostType.PUBLISHED "
+            + "AND p.deletedAt IS NULL AND a.deletedAt IS NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<SuggestionDTO> streamPublishedSuggestions();
+
+    // Publicación por identificador salvo que ella o su autor estén borrados (findById también devuelve
+    // las borradas pendientes de purgar)
+    @Query("SELECT p FROM PostEntity p JOIN p.author a WHERE p.id = :id AND p.deletedAt IS NULL AND a.deletedAt IS NULL")
+    Optional<PostEntity> findActiveById(Long id);
+
+    // Publicaciones visibles (las mismas que streamAllSummaries), para comprobar al arrancar que el índice
+    // de búsqueda está completo
+    @Query("SELECT COUNT(p) FROM PostEntity p JOIN p.author a WHERE p.deletedAt IS NULL AND a.deletedAt IS NULL")
+    long countActive();
+
+    // Publicaciones de la lista (p. ej. los resultados de una búsqueda), en cualquier orden
+    @Query(SUMMARY_SELECT + "AND p.id IN :ids")
+    List<PostSummaryDTO> findSummariesByIds(Collection<Long> ids);
+
+    // ---------- Paginación por cursor (keyset) sobre (creation_date, post_id), del más reciente al más antiguo ----------
+    // La primera página no lleva cursor; las siguientes continúan justo después de la última fila devuelta,
+    // así que el coste de una página no depende de lo lejos que esté en el listado.
+
+    String AFTER_CURSOR = "(p.creationDate < :creationDate OR (p.creationDate = :creationDate AND p.id < :id)) ";
+
+    String KEYSET_ORDER = "ORDER BY p.creationDate DESC, p.id DESC";
+
+    @Query(SUMMARY_SELECT + "AND a.id = :authorId " + KEYSET_ORDER)
+    List<PostSummaryDTO> findSummariesByAuthorId(Long authorId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "AND a.id = :authorId AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<PostSummaryDTO> findSummariesByAuthorIdAfter(Long authorId, LocalDateTime creationDate, Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + "AND p.postStatus = :postStatus " + KEYSET_ORDER)
+    List<PostSummaryDTO> findSummariesByPostStatus(PostEntity.PostStatus postStatus, Limit limit);
+
+    @Query(SUMMARY_SELECT + "AND p.postStatus = :postStatus AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<PostSummaryDTO> findSummariesByPostStatusAfter(PostEntity.PostStatus postStatus, LocalDateTime creationDate, Long id, Limit limit);
+
+    // Paginación por número de página (OFFSET), se mantiene por compatibilidad con los clientes existentes.
+    // Devuelve un Slice: se pide una fila de más para saber si hay página siguiente, sin COUNT(*)
+    @Query(SUMMARY_SELECT + "AND p.postStatus = :postStatus " + KEYSET_ORDER)
+    Slice<PostSummaryDTO> findSummariesByPostStatus(PostEntity.PostStatus postStatus, Pageable pageable);
+
+    // Número de publicaciones por estado en una sola consulta, para la caché de totales de los listados
+    @Query("SELECT p.postStatus, COUNT(p) FROM PostEntity p JOIN p.author a "
+            + "WHERE p.deletedAt IS NULL AND a.deletedAt IS NULL GROUP BY p.postStatus")
+    List<Object[]> countByPostStatus();
+
+    // Identificadores de la lista que existen, para validar referencias de una importación en una sola consulta
+    @Query("SELECT p.id FROM PostEntity p JOIN p.author a WHERE p.id IN :ids AND p.deletedAt IS NULL AND a.deletedAt IS NULL")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // ---------- Contador de comentarios (posts.comment_count) ----------
+
+    // Suma (o resta, con delta negativo) en la propia base de datos: dos altas simultáneas nunca pierden un incremento
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addToCommentCount(Long postId, int delta);
+
+    // Siguiente bloque de identificadores en orden, para recorrer la tabla por tramos al reconciliar
+    @Query("SELECT p.id FROM PostEntity p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    // Recalcula el contador de las publicaciones indicadas cuyo valor no coincide con el número real de comentarios
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentCount = (SELECT COUNT(c) FROM CommentEntity c WHERE c.post.id = p.id) "
+            + "WHERE p.id IN :ids AND p.commentCount <> (SELECT COUNT(c) FROM CommentEntity c WHERE c.post.id = p.id)")
+    int reconcileCommentCounts(Collection<Long> ids);
+
+    // ---------- Borrado lógico (posts.deleted_at) y purga por SoftDeleteReaper ----------
+
+    // Marca la publicación como borrada: una sola fila, sin cargar sus comentarios. Devuelve 0 si no
+    // existe o ya estaba borrada, así que de dos borrados simultáneos solo uno obtiene 1
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.deletedAt = :now WHERE p.id = :id AND p.deletedAt IS NULL")
+    int softDelete(Long id, LocalDateTime now);
+
+    // Siguiente lote de publicaciones borradas pendientes de purgar
+    @Query("SELECT p.id FROM PostEntity p WHERE p.deletedAt IS NOT NULL ORDER BY p.deletedAt")
+    List<Long> findDeletedIds(Limit limit);
+
+    // Publicaciones aún activas de autores borrados, que se borran con ellos
+    @Query("SELECT p.id FROM PostEntity p WHERE p.author.id IN :authorIds AND p.deletedAt IS NULL")
+    List<Long> findActiveIdsByAuthorIds(Collection<Long> authorIds, Limit limit);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.deletedAt = :now WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int softDeleteByIds(Collection<Long> ids, LocalDateTime now);
+
+    // Borra definitivamente publicaciones ya marcadas como borradas (sus comentarios deben haberse purgado antes)
+    @Modifying
+    @Query("DELETE FROM PostEntity p WHERE p.id IN :ids AND p.deletedAt IS NOT NULL")
+    int purgeByIds(Collection<Long> ids);
+
+    // Publicaciones pendientes de purgar, para el panel de administración
+    long countByDeletedAtIsNotNull();
 }
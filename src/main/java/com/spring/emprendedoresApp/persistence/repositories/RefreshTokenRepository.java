@@ -0,0 +1,39 @@
+package com.spring.emprendedoresApp.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.spring.emprendedoresApp.persistence.entities.RefreshTokenEntity;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    // Buscar un refresh token por el hash del valor presentado por el cliente
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    // Marca el token como canjeado solo si nadie lo ha canjeado antes (devuelve 0 si ya estaba usado)
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL AND r.revoked = false")
+    int markUsed(Long id, LocalDateTime now);
+
+    // Revoca todos los tokens de una familia (reutilización detectada)
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.revoked = true WHERE r.familyId = :familyId")
+    int revokeFamily(String familyId);
+
+    // Borra los tokens caducados
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+
+    // Tokens de usuarios borrados, antes de purgar sus filas (SoftDeleteReaper)
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.user.id IN :userIds")
+    int deleteByUserIds(Collection<Long> userIds);
+}
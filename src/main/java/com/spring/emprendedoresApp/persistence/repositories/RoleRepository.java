@@ -2,12 +2,20 @@ package com.spring.emprendedoresApp.persistence.repositories;
 
 import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
 import com.spring.emprendedoresApp.persistence.entities.RoleEntity.RoleName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoleRepository extends JpaRepository<RoleEntity, Long> {
 
-    // Método para obtener un RoleEntity basado en su nombre de rol (RoleName)
+    // Método para obtener un RoleEntity basado en su nombre de rol (RoleName).
+    // Resultado en la caché de consultas: cada registro de usuario lo pide y los roles no cambian
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "roles-by-name")
+    })
     RoleEntity findByRoleName(RoleName roleName);
 }
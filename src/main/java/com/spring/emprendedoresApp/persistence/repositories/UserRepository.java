@@ -1,26 +1,106 @@
 package com.spring.emprendedoresApp.persistence.repositories;
 
+import com.spring.emprendedoresApp.models.dtos.SuggestionDTO;
 import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
-    @Query(value = "SELECT * FROM users WHERE email = :email", nativeQuery = true)
+    // Las consultas de este repositorio ignoran los usuarios borrados (borrado lógico, pendientes de purgar)
+    // salvo findById, findAll y las de la purga
+
+    // En la caché de consultas (login y registro la repiten); cualquier escritura en users invalida los resultados
+    @Query("SELECT u FROM UserEntity u WHERE u.email = :email AND u.deletedAt IS NULL")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-by-email")
+    })
     Optional<UserEntity> findByEmail(String email);
     
     // Método para obtener todos los usuarios en un formato paginado
     Page<UserEntity> findAll(Pageable pageable);
+
+    // Usuarios paginados sin COUNT(*): solo indica si hay página siguiente
+    @Query("SELECT u FROM UserEntity u WHERE u.deletedAt IS NULL")
+    Slice<UserEntity> findAllBy(Pageable pageable);
     
     // Método para encontrar un usuario por su nombre de usuario (username)
+    @Query("SELECT u FROM UserEntity u WHERE u.username = :name AND u.deletedAt IS NULL")
     Optional<UserEntity> findByUsername(String name);
+
+    // Usuario por identificador salvo que esté borrado
+    @Query("SELECT u FROM UserEntity u WHERE u.id = :id AND u.deletedAt IS NULL")
+    Optional<UserEntity> findActiveById(Long id);
+
+    @Query("SELECT u FROM UserEntity u WHERE u.deletedAt IS NULL")
+    List<UserEntity> findAllActive();
+
+    // Usuarios no borrados, para la caché de totales de los listados
+    long countByDeletedAtIsNull();
     
-    // Método para obtener una lista de usuarios basados en el nombre del rol (roleName)
-    List<UserEntity> findByRole_RoleName(RoleEntity.RoleName roleName);
+    // Método para obtener una lista de usuarios con un rol; se filtra por users.role_id (índice idx_users_role)
+    // sin JOIN con roles, con el rol ya resuelto por RoleRegistry
+    @Query("SELECT u FROM UserEntity u WHERE u.role = :role AND u.deletedAt IS NULL")
+    List<UserEntity> findByRole(RoleEntity role);
+
+    // Número de usuarios por coste BCrypt de su hash ("$2a$12$..." -> "12"), para seguir la migración de costes
+    @Query("SELECT SUBSTRING(u.password, 5, 2), COUNT(u) FROM UserEntity u GROUP BY SUBSTRING(u.password, 5, 2)")
+    List<Object[]> countByPasswordCost();
+
+    // Identificadores de la lista que existen, para validar referencias de una importación en una sola consulta
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :ids AND u.deletedAt IS NULL")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // Exportación NDJSON: todos los usuarios por bloques de filas y de solo lectura (quien lo recorre
+    // desactiva la caché de segundo nivel en la sesión: la consulta en streaming no respeta la pista cacheMode)
+    @Query("SELECT u FROM UserEntity u WHERE u.deletedAt IS NULL ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PostRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserEntity> streamAll();
+
+    // Autocompletado: nombre de usuario y fecha de registro de todos los usuarios, sin cargar las entidades
+    @Query("SELECT new com.spring.emprendedoresApp.models.dtos.SuggestionDTO(u.id, u.username, u.registrationDate) "
+            + "FROM UserEntity u WHERE u.deletedAt IS NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PostRepository.EXPORT_FETCH_SIZE))
+    Stream<SuggestionDTO> streamSuggestions();
+
+    // ---------- Borrado lógico (users.deleted_at) y purga por SoftDeleteReaper ----------
+
+    // Marca el usuario como borrado: una sola fila, sin cargar sus comentarios ni publicaciones.
+    // Devuelve 0 si no existe o ya estaba borrado
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.deletedAt = :now WHERE u.id = :id AND u.deletedAt IS NULL")
+    int softDelete(Long id, LocalDateTime now);
+
+    // Siguiente lote de usuarios borrados pendientes de purgar
+    @Query("SELECT u.id FROM UserEntity u WHERE u.deletedAt IS NOT NULL ORDER BY u.deletedAt")
+    List<Long> findDeletedIds(Limit limit);
+
+    // Borra definitivamente usuarios ya marcados como borrados que no conservan publicaciones
+    // (sus comentarios y refresh tokens deben haberse purgado antes)
+    @Modifying
+    @Query("DELETE FROM UserEntity u WHERE u.id IN :ids AND u.deletedAt IS NOT NULL "
+            + "AND NOT EXISTS (SELECT p.id FROM PostEntity p WHERE p.author = u)")
+    int purgeByIds(Collection<Long> ids);
+
+    // Usuarios pendientes de purgar, para el panel de administración
+    long countByDeletedAtIsNotNull();
 }
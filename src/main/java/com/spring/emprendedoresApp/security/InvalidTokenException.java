@@ -0,0 +1,34 @@
+package com.spring.emprendedoresApp.security;
+
+import com.nimbusds.jose.JOSEException;
+
+/**
+ * Token rechazado, con el motivo del rechazo para poder contarlo y cachearlo.
+ */
+public class InvalidTokenException extends JOSEException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        MALFORMED,
+        UNKNOWN_KEY,
+        BAD_SIGNATURE,
+        EXPIRED
+    }
+
+    private final Reason reason;
+
+    public InvalidTokenException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public InvalidTokenException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
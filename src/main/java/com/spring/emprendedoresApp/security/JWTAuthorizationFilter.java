@@ -1,8 +1,8 @@
 package com.spring.emprendedoresApp.security;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,9 +12,13 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.spring.emprendedoresApp.services.IJWTUtilityService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,8 +29,26 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
     @Autowired
     private IJWTUtilityService jwtUtilityService;
 
-    public JWTAuthorizationFilter(IJWTUtilityService jwtUtilityService) {
+    // Tamaño máximo aceptado para un token; los nuestros ocupan menos de 1 KB
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    private final VerifiedTokenCache tokenCache;
+
+    private final RejectedTokenCache rejectedTokenCache;
+
+    // Coste propio del filtro (sin el resto de la cadena) según cómo se resolvió el token
+    private final Timer cacheHitTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public JWTAuthorizationFilter(IJWTUtilityService jwtUtilityService, VerifiedTokenCache tokenCache,
+            RejectedTokenCache rejectedTokenCache, MeterRegistry meterRegistry) {
 		this.jwtUtilityService = jwtUtilityService;
+		this.tokenCache = tokenCache;
+		this.rejectedTokenCache = rejectedTokenCache;
+		this.cacheHitTimer = filterTimer(meterRegistry, "cache_hit");
+		this.verifiedTimer = filterTimer(meterRegistry, "verified");
+		this.rejectedTimer = filterTimer(meterRegistry, "rejected");
 	}
 
 	@Override
@@ -41,41 +63,110 @@ public class JWTAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
+        long start = System.nanoTime();
+
         // Extraer el token del encabezado
         String token = header.substring(7);
 
-        try {
-            // Parsear el token para obtener los reclamos (claims)
-            JWTClaimsSet claims = jwtUtilityService.parseJWT(token);
-            
-            // Extraer roles de las reclamaciones y asignarlos a Authorities
-            @SuppressWarnings("unchecked")
-            List<String> roles = (List<String>) claims.getClaim("authorities");
+        // Comprobación estructural barata: la basura se rechaza antes de calcular hashes o firmas
+        if (!isWellFormed(token)) {
+            rejectedTokenCache.recordMalformed();
+            reject(response, rejectedTimer, start);
+            return;
+        }
 
-            // Convertir roles a GrantedAuthorities
-            List<GrantedAuthority> authorities = roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role))  // Asegúrate de prefijar los roles con "ROLE_"
-                .collect(Collectors.toList());
+        // Si el token ya se verificó hace poco, se reutiliza la autenticación sin volver a comprobar la firma
+        String tokenKey = tokenCache.keyFor(token);
+        UsernamePasswordAuthenticationToken authenticationToken = tokenCache.get(tokenKey);
+
+        if (authenticationToken == null) {
+            // Si el token ya se rechazó hace poco, se vuelve a rechazar sin repetir la verificación
+            if (rejectedTokenCache.get(tokenKey) != null) {
+                reject(response, rejectedTimer, start);
+                return;
+            }
+
+            try {
+                // Parsear el token para obtener los reclamos (claims)
+                JWTClaimsSet claims = jwtUtilityService.parseJWT(token);
+
+                // Extraer roles de las reclamaciones y asignarlos a Authorities
+                @SuppressWarnings("unchecked")
+                List<String> roles = (List<String>) claims.getClaim("authorities");
+
+                // Convertir roles a GrantedAuthorities
+                List<GrantedAuthority> authorities = roles.stream()
+                    .map(role -> new SimpleGrantedAuthority(role))  // Asegúrate de prefijar los roles con "ROLE_"
+                    .collect(Collectors.toList());
+
+                // Crear un objeto de autenticación con el sujeto del token y los roles
+                authenticationToken = new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+
+                // Guardar la autenticación hasta que expire el token, con el "kid" para descartarla si se retira la clave
+                String keyId = JWSHeader.parse(new Base64URL(token.substring(0, token.indexOf('.')))).getKeyID();
+                tokenCache.put(tokenKey, authenticationToken, claims.getExpirationTime(), keyId);
+                verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            } catch (InvalidTokenException e) {
+                // Recordar el rechazo para que las repeticiones de este token no cuesten otra verificación
+                rejectedTokenCache.put(tokenKey, e.getReason());
+                reject(response, rejectedTimer, start);
+                return;
+            } catch (Exception e) {
+                // Manejar excepciones relacionadas con el parsing del token
+                reject(response, rejectedTimer, start);
+                return;
+            }
+        } else {
+            cacheHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
 
-            // Crear un objeto de autenticación con el sujeto del token y los roles
-            UsernamePasswordAuthenticationToken authenticationToken = 
-                    new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+        // Establecer el contexto de seguridad con la autenticación
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
+        // Continuar con la cadena de filtros
+        filterChain.doFilter(request, response);
+    }
 
-            // Establecer el contexto de seguridad con la autenticación
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    private static void reject(HttpServletResponse response, Timer timer, long start) throws IOException {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        SecurityContextHolder.clearContext();
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.getWriter().write("Invalid or expired token.");
+    }
 
-        } catch (Exception e) {
-            // Manejar excepciones relacionadas con el parsing del token
-            SecurityContextHolder.clearContext();
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Invalid or expired token.");
-            return;
+    private static Timer filterTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.filter")
+                .description("Coste del filtro JWT por petición con token, sin contar el resto de la cadena")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // Un JWS compacto son tres segmentos Base64 URL no vacíos separados por puntos, y la cabecera es un objeto JSON ("eyJ" = '{"')
+    private static boolean isWellFormed(String token) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH || !token.startsWith("eyJ")) {
+            return false;
         }
+        int dots = 0;
+        char previous = '.';
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (previous == '.' || ++dots > 2) {
+                    return false;
+                }
+            } else if (!isBase64Url(c)) {
+                return false;
+            }
+            previous = c;
+        }
+        return dots == 2 && previous != '.';
+    }
 
-        // Continuar con la cadena de filtros
-        filterChain.doFilter(request, response);
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
     }
-	
 }
 
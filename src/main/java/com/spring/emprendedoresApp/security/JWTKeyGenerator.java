@@ -0,0 +1,44 @@
+package com.spring.emprendedoresApp.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Base64;
+
+/**
+ * Genera un par de claves PEM (private_key.pem / public_key.pem) para el algoritmo JWT indicado.
+ *
+ * Uso: mvn -q compile exec:java -Dexec.mainClass=com.spring.emprendedoresApp.security.JWTKeyGenerator
+ *          -Dexec.args="ES256 src/main/resources/jwtKeys"
+ */
+public final class JWTKeyGenerator {
+
+    private JWTKeyGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException, GeneralSecurityException {
+        if (args.length != 2) {
+            System.err.println("Uso: JWTKeyGenerator <RS256|ES256|EdDSA> <directorio>");
+            System.exit(1);
+        }
+        JWTSigningAlgorithm algorithm = JWTSigningAlgorithm.valueOf(args[0]);
+        Path directory = Paths.get(args[1]);
+        Files.createDirectories(directory);
+
+        KeyPair keyPair = algorithm.generateKeyPair();
+        writePem(directory.resolve("private_key.pem"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        writePem(directory.resolve("public_key.pem"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+
+        System.out.println("Claves " + algorithm + " generadas en " + directory.toAbsolutePath());
+    }
+
+    private static void writePem(Path path, String type, byte[] der) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        String pem = "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+        Files.writeString(path, pem, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,138 @@
+package com.spring.emprendedoresApp.security;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+
+/**
+ * Algoritmos de firma JWT soportados y todo lo que depende de ellos: tipo de clave,
+ * generación de pares de claves, firmante, verificador y huella "kid".
+ *
+ * EdDSA usa la implementación Ed25519 nativa del JDK (ver {@link JcaEdDSASigner}), ya que los
+ * firmantes Ed25519 de nimbus-jose-jwt requieren la dependencia opcional Google Tink.
+ */
+public enum JWTSigningAlgorithm {
+
+    RS256(JWSAlgorithm.RS256, "RSA"),
+    ES256(JWSAlgorithm.ES256, "EC"),
+    EdDSA(JWSAlgorithm.EdDSA, "Ed25519");
+
+    // Las claves públicas Ed25519 en X.509 son un prefijo fijo de 12 bytes seguido de los 32 bytes de la clave
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private final JWSAlgorithm jwsAlgorithm;
+    private final String keyAlgorithm;
+
+    JWTSigningAlgorithm(JWSAlgorithm jwsAlgorithm, String keyAlgorithm) {
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    public JWSAlgorithm getJwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    /**
+     * Genera un par de claves adecuado: RSA 2048, EC P-256 o Ed25519.
+     */
+    public KeyPair generateKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm);
+        switch (this) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case EdDSA -> { }
+        }
+        return generator.generateKeyPair();
+    }
+
+    public PrivateKey parsePrivateKey(byte[] pkcs8) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+    }
+
+    public PublicKey parsePublicKey(byte[] x509) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(x509));
+    }
+
+    public JWSSigner createSigner(PrivateKey privateKey) throws JOSEException {
+        return switch (this) {
+            case RS256 -> new RSASSASigner(privateKey);
+            case ES256 -> new ECDSASigner((ECPrivateKey) privateKey);
+            case EdDSA -> new JcaEdDSASigner(privateKey);
+        };
+    }
+
+    public JWSVerifier createVerifier(PublicKey publicKey) throws JOSEException {
+        return switch (this) {
+            case RS256 -> new RSASSAVerifier((RSAPublicKey) publicKey);
+            case ES256 -> new ECDSAVerifier((ECPublicKey) publicKey);
+            case EdDSA -> new JcaEdDSAVerifier(publicKey);
+        };
+    }
+
+    /**
+     * Calcula el "kid" de una clave pública: su huella JWK según RFC 7638.
+     */
+    public String keyId(PublicKey publicKey) throws JOSEException {
+        return switch (this) {
+            case RS256 -> new RSAKey.Builder((RSAPublicKey) publicKey).build().computeThumbprint().toString();
+            case ES256 -> new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey).build().computeThumbprint().toString();
+            case EdDSA -> {
+                byte[] encoded = publicKey.getEncoded();
+                byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+                yield new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw)).build().computeThumbprint().toString();
+            }
+        };
+    }
+
+    /**
+     * Parsea una clave pública X.509 de tipo desconocido probando cada algoritmo.
+     * Permite aceptar, durante una rotación, claves de un algoritmo distinto al de firma.
+     */
+    public static PublicKey parseAnyPublicKey(byte[] x509) throws GeneralSecurityException {
+        GeneralSecurityException lastError = null;
+        for (JWTSigningAlgorithm algorithm : values()) {
+            try {
+                return algorithm.parsePublicKey(x509);
+            } catch (GeneralSecurityException e) {
+                lastError = e;
+            }
+        }
+        throw lastError;
+    }
+
+    /**
+     * Devuelve el algoritmo que corresponde a una clave pública ya parseada.
+     */
+    public static JWTSigningAlgorithm forKey(PublicKey publicKey) {
+        return switch (publicKey.getAlgorithm()) {
+            case "RSA" -> RS256;
+            case "EC" -> ES256;
+            case "EdDSA", "Ed25519" -> EdDSA;
+            default -> throw new IllegalArgumentException("Tipo de clave JWT no soportado: " + publicKey.getAlgorithm());
+        };
+    }
+}
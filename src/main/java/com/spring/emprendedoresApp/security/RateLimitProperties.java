@@ -0,0 +1,116 @@
+package com.spring.emprendedoresApp.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límites de peticiones por grupo de rutas ({@code rateLimit.*} en application.properties).
+ *
+ * Cada grupo admite una ráfaga de {@code capacity} peticiones y se recarga a
+ * {@code refillPerMinute} peticiones por minuto, por usuario autenticado o por IP.
+ * Se aplica el primer grupo cuyos métodos y rutas coinciden con la petición.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Segundos sin peticiones tras los que se descarta el bucket de un cliente
+    private long idleSeconds = 600;
+
+    // Máximo de buckets en memoria (clientes distintos a la vez)
+    private long maxBuckets = 100000;
+
+    private List<Group> groups = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIdleSeconds() {
+        return idleSeconds;
+    }
+
+    public void setIdleSeconds(long idleSeconds) {
+        this.idleSeconds = idleSeconds;
+    }
+
+    public long getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(long maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    public static class Group {
+
+        private String name;
+
+        // Métodos HTTP del grupo; vacío = todos
+        private List<String> methods = new ArrayList<>();
+
+        // Patrones de ruta estilo Ant ("/api/posts/**")
+        private List<String> patterns = new ArrayList<>();
+
+        private int capacity = 10;
+
+        private int refillPerMinute = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public int getRefillPerMinute() {
+            return refillPerMinute;
+        }
+
+        public void setRefillPerMinute(int refillPerMinute) {
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.spring.emprendedoresApp.security;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Limitador de peticiones en memoria con un token bucket por cliente y grupo de rutas.
+ *
+ * Cada bucket es un único {@link AtomicLong} con el algoritmo GCRA (la forma "sin contador"
+ * del token bucket): guarda el instante teórico en que el bucket volverá a estar lleno y una
+ * petición se admite con un compareAndSet, sin locks ni hilos de recarga. Los buckets viven
+ * en una caché Caffeine que descarta los inactivos, así que la memoria queda acotada.
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    private List<RouteGroup> groups;
+
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    public void init() {
+        groups = new ArrayList<>();
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            groups.add(new RouteGroup(group));
+        }
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleSeconds(), TimeUnit.SECONDS)
+                // El mantenimiento se hace en el hilo de la petición: evita despertar el ForkJoinPool en cada acceso
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Consume una petición del bucket del cliente en el grupo que corresponde a la ruta.
+     *
+     * @return 0 si la petición se admite (o no pertenece a ningún grupo); si no, los
+     *         nanosegundos que el cliente debe esperar antes de reintentar.
+     */
+    public long tryAcquire(String method, String path, String clientKey) {
+        return tryAcquire(method, path, clientKey, System.nanoTime());
+    }
+
+    // Igual que tryAcquire, con el instante (System.nanoTime) indicado por quien llama, para los tests
+    long tryAcquire(String method, String path, String clientKey, long now) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        RouteGroup group = findGroup(method, path);
+        if (group == null) {
+            return 0;
+        }
+        TokenBucket bucket = buckets.get(group.name + '|' + clientKey, key -> new TokenBucket());
+        long waitNanos = bucket.tryAcquire(now, group.emissionIntervalNanos, group.burstToleranceNanos);
+        if (waitNanos == 0) {
+            group.allowed.increment();
+        } else {
+            group.rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    // Publica las peticiones admitidas y rechazadas por grupo (rate.limit.requests)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RouteGroup group : groups) {
+            FunctionCounter.builder("rate.limit.requests", group.allowed, LongAdder::sum)
+                    .tags("group", group.name, "result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("rate.limit.requests", group.rejected, LongAdder::sum)
+                    .tags("group", group.name, "result", "rejected")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Peticiones admitidas y rechazadas por grupo, y número de buckets en memoria.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("enabled", properties.isEnabled());
+        description.put("buckets", buckets.estimatedSize());
+        Map<String, Object> byGroup = new LinkedHashMap<>();
+        for (RouteGroup group : groups) {
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("capacity", group.capacity);
+            counters.put("refillPerMinute", group.refillPerMinute);
+            counters.put("allowed", group.allowed.sum());
+            counters.put("rejected", group.rejected.sum());
+            byGroup.put(group.name, counters);
+        }
+        description.put("groups", byGroup);
+        return description;
+    }
+
+    private RouteGroup findGroup(String method, String path) {
+        for (RouteGroup group : groups) {
+            if (group.matches(method, path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Token bucket en forma GCRA. El estado es el "tiempo teórico de llegada" (TAT): cada petición
+     * admitida lo adelanta un intervalo de emisión, y se rechaza si quedaría más allá de la ráfaga
+     * permitida. Equivale a un bucket de {@code capacity} fichas que se recarga una ficha por intervalo.
+     */
+    static final class TokenBucket {
+
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        long tryAcquire(long now, long emissionIntervalNanos, long burstToleranceNanos) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = tat == Long.MIN_VALUE || tat < now ? now : tat;
+                long newTat = base + emissionIntervalNanos;
+                long excess = newTat - now - burstToleranceNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    private static final class RouteGroup {
+
+        private final String name;
+        private final Set<String> methods;
+        // Los patrones "/prefijo/**" se comprueban como prefijo; el resto con AntPathMatcher
+        private final List<String> prefixes = new ArrayList<>();
+        private final List<String> patterns = new ArrayList<>();
+        private final int capacity;
+        private final int refillPerMinute;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private RouteGroup(RateLimitProperties.Group group) {
+            if (group.getCapacity() < 1 || group.getRefillPerMinute() < 1) {
+                throw new IllegalStateException("El grupo de rate limit '" + group.getName() + "' necesita capacity y refillPerMinute >= 1");
+            }
+            this.name = group.getName();
+            this.methods = group.getMethods().stream().map(m -> m.trim().toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+            for (String pattern : group.getPatterns()) {
+                String trimmed = pattern.trim();
+                String prefix = trimmed.endsWith("/**") ? trimmed.substring(0, trimmed.length() - 3) : null;
+                if (prefix != null && !PATH_MATCHER.isPattern(prefix)) {
+                    prefixes.add(prefix);
+                } else {
+                    patterns.add(trimmed);
+                }
+            }
+            this.capacity = group.getCapacity();
+            this.refillPerMinute = group.getRefillPerMinute();
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+            this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        }
+
+        private boolean matches(String method, String path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (String prefix : prefixes) {
+                if (path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                    return true;
+                }
+            }
+            for (String pattern : patterns) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
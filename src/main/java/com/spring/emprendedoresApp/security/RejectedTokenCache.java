@@ -0,0 +1,116 @@
+package com.spring.emprendedoresApp.security;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Caché negativa y acotada de tokens rechazados hace poco.
+ *
+ * Usa la misma clave que {@link VerifiedTokenCache} (SHA-256 del token), de modo que un
+ * cliente que repite un token caducado o falsificado recibe el 401 sin volver a verificar la
+ * firma. Los rechazos por clave desconocida no se guardan: una recarga del anillo puede añadir
+ * esa clave en cualquier momento, y comprobar el "kid" no cuesta ninguna firma. Las entradas
+ * caducan a los {@code jwt.rejectedTokenCache.ttlSeconds}. También cuenta los rechazos por motivo.
+ */
+@Component
+public class RejectedTokenCache implements MeterBinder {
+
+    // Número máximo de tokens rechazados en caché (0 la desactiva; los rechazos se siguen contando)
+    @Value("${jwt.rejectedTokenCache.maxSize:10000}")
+    private long maximumSize;
+
+    // Tiempo que se recuerda un rechazo
+    @Value("${jwt.rejectedTokenCache.ttlSeconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, InvalidTokenException.Reason> cache;
+
+    private final Map<InvalidTokenException.Reason, LongAdder> rejections = new EnumMap<>(InvalidTokenException.Reason.class);
+    private final LongAdder cacheHits = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        for (InvalidTokenException.Reason reason : InvalidTokenException.Reason.values()) {
+            rejections.put(reason, new LongAdder());
+        }
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Devuelve el motivo por el que se rechazó antes este token, o null si no está en caché.
+     * Un acierto cuenta como un nuevo rechazo por ese motivo.
+     */
+    public InvalidTokenException.Reason get(String tokenKey) {
+        if (maximumSize == 0) {
+            return null;
+        }
+        InvalidTokenException.Reason reason = cache.getIfPresent(tokenKey);
+        if (reason != null) {
+            cacheHits.increment();
+            rejections.get(reason).increment();
+        }
+        return reason;
+    }
+
+    /**
+     * Registra el rechazo de un token verificado y lo guarda en la caché negativa, salvo que
+     * el motivo sea una clave desconocida.
+     */
+    public void put(String tokenKey, InvalidTokenException.Reason reason) {
+        rejections.get(reason).increment();
+        if (maximumSize > 0 && reason != InvalidTokenException.Reason.UNKNOWN_KEY) {
+            cache.put(tokenKey, reason);
+        }
+    }
+
+    /**
+     * Registra un token descartado por la comprobación estructural; no se cachea porque
+     * esa comprobación es más barata que calcular la clave de caché.
+     */
+    public void recordMalformed() {
+        rejections.get(InvalidTokenException.Reason.MALFORMED).increment();
+    }
+
+    // Publica los rechazos por motivo (jwt.rejections) y la caché negativa en Micrometer
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rejections.forEach((reason, counter) -> FunctionCounter.builder("jwt.rejections", counter, LongAdder::sum)
+                .description("Tokens rechazados por motivo")
+                .tag("reason", reason.name().toLowerCase())
+                .register(registry));
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.rejectedTokens");
+    }
+
+    /**
+     * Rechazos por motivo y aciertos de la caché negativa.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", cache.estimatedSize());
+        description.put("maxSize", maximumSize);
+        description.put("cacheHits", cacheHits.sum());
+        Map<String, Long> byReason = new LinkedHashMap<>();
+        rejections.forEach((reason, counter) -> byReason.put(reason.name().toLowerCase(), counter.sum()));
+        description.put("rejections", byReason);
+        return description;
+    }
+}
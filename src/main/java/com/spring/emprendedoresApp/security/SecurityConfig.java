@@ -19,6 +19,8 @@ import org.springframework.web.filter.CorsFilter;
 
 import com.spring.emprendedoresApp.services.IJWTUtilityService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import jakarta.servlet.http.HttpServletResponse;
 
 @Configuration
@@ -29,12 +31,29 @@ public class SecurityConfig {
     @Autowired
     private IJWTUtilityService jwtUtilityService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private RejectedTokenCache rejectedTokenCache;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http.csrf(csrf -> csrf.disable()) // Disables CSRF as it's not needed for a REST API with JWT
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // Integrates the CORS configuration
                 .authorizeRequests(authRequest -> authRequest.requestMatchers("/auth/**").permitAll() // Allow all for /auth/** routes
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll() // Allow Swagger docs
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // Operational stats, ADMIN only
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // Health and scraping (served on the management port)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // Any other actuator endpoint, ADMIN only
+                        .requestMatchers("/api/posts/import", "/api/comments/import").hasRole("ADMIN") // Bulk NDJSON imports, ADMIN only
+                        .requestMatchers("/api/posts/export", "/api/comments/export", "/api/users/export").hasRole("ADMIN") // Streaming NDJSON exports, ADMIN only
                         
                         // Routes that require authentication
                         .requestMatchers("/api/users/me").hasAnyRole("ADMIN", "EDITOR")
@@ -50,8 +69,9 @@ public class SecurityConfig {
                 .sessionManagement(sessionManager -> sessionManager
                         .sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.STATELESS)
                 ) // Stateless sessions, ideal for JWT
-                .addFilterBefore(new JWTAuthorizationFilter(jwtUtilityService),
+                .addFilterBefore(new JWTAuthorizationFilter(jwtUtilityService, verifiedTokenCache, rejectedTokenCache, meterRegistry),
                         UsernamePasswordAuthenticationFilter.class) // Adds the JWT authorization filter before the default authentication filter
+                .addFilterAfter(new RateLimitFilter(rateLimiter), JWTAuthorizationFilter.class) // Rate limiting per JWT subject or client IP (429 + Retry-After)
                 .exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint((request, response, authException) -> 
                         response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized"))
                 ) // Handles unauthorized errors (401)
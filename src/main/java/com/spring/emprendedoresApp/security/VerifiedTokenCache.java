@@ -0,0 +1,172 @@
+package com.spring.emprendedoresApp.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Caché acotada y concurrente de tokens ya verificados.
+ *
+ * La clave es el SHA-256 del token (nunca se guarda el token en claro) y el valor es la
+ * autenticación ya construida, con sus authorities. Cada entrada caduca exactamente en el
+ * instante del claim "exp" del token, por lo que una petición repetida se ahorra la
+ * verificación de la firma sin alargar la vida del token.
+ *
+ * Cada entrada recuerda el "kid" con el que se verificó: si el anillo deja de aceptar esa
+ * clave (retirada tras su ventana de gracia o eliminada), la entrada se descarta y el token
+ * vuelve a verificarse, con lo que se rechaza igual que si no hubiera estado en caché.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    });
+
+    // Número máximo de tokens en caché; al superarlo se descartan los menos usados (0 desactiva la caché)
+    @Value("${jwt.tokenCache.maxSize:10000}")
+    private long maximumSize;
+
+    @Autowired
+    private JWTKeyRing keyRing;
+
+    private Cache<String, CachedAuthentication> cache;
+
+    // Descartes por tamaño (caché pequeña), por caducidad del token y por clave retirada, contados por separado
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder retiredKeyInvalidations = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((String key, CachedAuthentication value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        sizeEvictions.increment();
+                    } else if (cause == RemovalCause.EXPIRED) {
+                        expirations.increment();
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Calcula la clave de caché de un token (SHA-256 en Base64 URL).
+     */
+    public String keyFor(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /**
+     * Devuelve la autenticación de un token ya verificado, o null si no está en caché, ha caducado
+     * o la clave con la que se verificó ya no se acepta.
+     */
+    public UsernamePasswordAuthenticationToken get(String tokenKey) {
+        if (maximumSize == 0) {
+            return null;
+        }
+        CachedAuthentication cached = cache.getIfPresent(tokenKey);
+        if (cached == null) {
+            return null;
+        }
+        if (keyRing.getVerifier(cached.keyId) == null) {
+            cache.invalidate(tokenKey);
+            retiredKeyInvalidations.increment();
+            return null;
+        }
+        return cached.authentication;
+    }
+
+    /**
+     * Guarda la autenticación de un token verificado hasta su fecha de expiración, junto con el
+     * "kid" de su cabecera (null si no tenía, en cuyo caso se verificó con la clave vigente).
+     */
+    public void put(String tokenKey, UsernamePasswordAuthenticationToken authentication, Date expirationTime, String keyId) {
+        if (maximumSize == 0 || expirationTime == null || expirationTime.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(tokenKey, new CachedAuthentication(authentication, expirationTime.getTime(), keyRing.resolveKeyId(keyId)));
+    }
+
+    // Publica aciertos, fallos y descartes de la caché en Micrometer (cache.* con cache=jwt.verifiedTokens)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.verifiedTokens");
+    }
+
+    /**
+     * Contadores para dimensionar la caché: aciertos, fallos y descartes por tamaño o caducidad.
+     */
+    public Map<String, Object> describe() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", cache.estimatedSize());
+        description.put("maxSize", maximumSize);
+        description.put("hits", stats.hitCount());
+        description.put("misses", stats.missCount());
+        description.put("hitRate", stats.hitRate());
+        description.put("evictions", stats.evictionCount());
+        description.put("sizeEvictions", sizeEvictions.sum());
+        description.put("expirations", expirations.sum());
+        description.put("retiredKeyInvalidations", retiredKeyInvalidations.sum());
+        return description;
+    }
+
+    private static final class CachedAuthentication {
+
+        private final UsernamePasswordAuthenticationToken authentication;
+        private final long expiresAt;
+        private final String keyId;
+
+        private CachedAuthentication(UsernamePasswordAuthenticationToken authentication, long expiresAt, String keyId) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+            this.keyId = keyId;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.spring.emprendedoresApp.services;
 import java.util.HashMap;
 
 import com.spring.emprendedoresApp.models.dtos.LoginDTO;
+import com.spring.emprendedoresApp.models.dtos.RefreshTokenDTO;
 import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
 
@@ -11,5 +12,8 @@ public interface IAuthService {
 	public HashMap<String, String> login(LoginDTO login) throws Exception;
 
 	public ResponseDTO register(UserEntity user, String roleName) throws Exception;
+
+	// Renueva el access token a partir de un refresh token, sin volver a comprobar la contraseña
+	public HashMap<String, String> refresh(RefreshTokenDTO refreshRequest) throws Exception;
 }
 
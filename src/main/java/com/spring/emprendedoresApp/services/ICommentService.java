@@ -6,6 +6,8 @@ import java.util.List;
 
 public interface ICommentService {
     CommentEntity createComment(CommentEntity comment, Long postId);
+    // Crea muchos comentarios de una publicación en una sola transacción, con INSERT por lotes
+    List<CommentEntity> createComments(List<CommentEntity> comments, Long postId);
     List<CommentEntity> getAllComments();
     List<CommentEntity> getCommentsByPost(Long postId);
     CommentEntity updateComment(Long id, CommentEntity updatedComment);
@@ -0,0 +1,16 @@
+package com.spring.emprendedoresApp.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IExportService {
+
+    // Exportar todas las publicaciones en NDJSON (una publicación por línea) y devolver cuántas se escribieron
+    long exportPosts(OutputStream out) throws IOException;
+
+    // Exportar todos los comentarios en NDJSON (un comentario por línea)
+    long exportComments(OutputStream out) throws IOException;
+
+    // Exportar todos los usuarios en NDJSON (un usuario por línea)
+    long exportUsers(OutputStream out) throws IOException;
+}
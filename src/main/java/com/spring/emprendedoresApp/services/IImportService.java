@@ -0,0 +1,15 @@
+package com.spring.emprendedoresApp.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.spring.emprendedoresApp.models.dtos.ImportResultDTO;
+
+public interface IImportService {
+
+    // Importar publicaciones desde un cuerpo NDJSON (una publicación por línea), por lotes
+    ImportResultDTO importPosts(InputStream ndjson) throws IOException;
+
+    // Importar comentarios desde un cuerpo NDJSON (un comentario por línea), por lotes
+    ImportResultDTO importComments(InputStream ndjson) throws IOException;
+}
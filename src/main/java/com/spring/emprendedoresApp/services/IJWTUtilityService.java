@@ -29,7 +29,7 @@ public interface IJWTUtilityService {
 
 	/**
 	 * Genera un JSON Web Token (JWT) firmado con la clave privada.
-	 * Este JWT contiene el ID del usuario como su sujeto y tiene una validez de 1 hora.
+	 * Este JWT contiene el ID del usuario como su sujeto y tiene una validez de jwt.accessTokenTtlSeconds.
 	 * 
 	 * @param userId ID del usuario para incluirlo en las reclamaciones del token.
 	 * @return Un JWT firmado en formato String.
@@ -0,0 +1,33 @@
+package com.spring.emprendedoresApp.services;
+
+public interface IPasswordHashingService {
+
+    /**
+     * Calcula el hash BCrypt de una contraseña en el pool dedicado de hashing.
+     *
+     * @throws PasswordHashingBusyException Si el pool está saturado o el hash tarda demasiado.
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Comprueba una contraseña contra su hash BCrypt en el pool dedicado de hashing.
+     *
+     * @throws PasswordHashingBusyException Si el pool está saturado o la comprobación tarda demasiado.
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Indica si un hash guardado usa un coste menor que el vigente y debe recalcularse
+     * la próxima vez que se conozca la contraseña en claro (login correcto). Un hash de
+     * coste mayor nunca se rebaja.
+     */
+    boolean needsRehash(String encodedPassword);
+
+    /**
+     * Recalcula con el coste vigente el hash de una contraseña cuyo hash guardado lo necesita
+     * (ver {@link #needsRehash(String)}), contándolo en las métricas de migración.
+     *
+     * @throws PasswordHashingBusyException Si el pool está saturado o el hash tarda demasiado.
+     */
+    String rehash(String rawPassword);
+}
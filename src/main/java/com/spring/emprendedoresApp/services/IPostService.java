@@ -1,22 +1,29 @@
 package com.spring.emprendedoresApp.services;
 
+import com.spring.emprendedoresApp.models.dtos.CursorPageDTO;
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.models.dtos.SuggestionsDTO;
 import com.spring.emprendedoresApp.persistence.entities.PostEntity;
 import com.spring.emprendedoresApp.persistence.entities.PostEntity.PostStatus;
 
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface IPostService {
 
     // Crear una publicación
     PostEntity createPost(PostEntity post, Long authorId);
 
-    // Obtener todas las publicaciones
-    List<PostEntity> getAllPosts();
+    // Crear muchas publicaciones de un mismo autor en una sola transacción, con INSERT por lotes
+    List<PostEntity> createPosts(List<PostEntity> posts, Long authorId);
 
-    // Obtener publicaciones por autor
-    List<PostEntity> getPostsByAuthor(Long authorId);
+    // Obtener todas las publicaciones (vista de listado, una sola consulta)
+    List<PostSummaryDTO> getAllPosts();
+
+    // Obtener publicaciones por autor, paginadas por cursor (null = primera página)
+    CursorPageDTO<PostSummaryDTO> getPostsByAuthor(Long authorId, String cursor, int size);
 
     // Actualizar una publicación
     PostEntity updatePost(Long id, PostEntity updatedPost);
@@ -30,5 +37,18 @@ public interface IPostService {
     // Validar una publicación
     PostEntity validatePost(Long id);
 
-	Page<PostEntity> getPostsByStatus(PostStatus postStatus, int page, int size);
+	// Obtener publicaciones por estado, paginadas por número de página (sin recuento, solo hasNext)
+	Slice<PostSummaryDTO> getPostsByStatus(PostStatus postStatus, int page, int size);
+
+	// Igual que la anterior, con el total tomado de la caché de recuentos (puede ir algo retrasado)
+	Page<PostSummaryDTO> getPostsByStatusWithTotal(PostStatus postStatus, int page, int size);
+
+	// Obtener publicaciones por estado, paginadas por cursor (null = primera página)
+	CursorPageDTO<PostSummaryDTO> getPostsByStatus(PostStatus postStatus, String cursor, int size);
+
+	// Buscar publicaciones por texto (título y contenido), de más a menos relevante
+	List<PostSummaryDTO> searchPosts(String query, int size);
+
+	// Autocompletado: publicaciones publicadas y usuarios que empiezan por el prefijo, los más recientes primero
+	SuggestionsDTO suggest(String prefix, int size);
 }
@@ -0,0 +1,27 @@
+package com.spring.emprendedoresApp.services;
+
+import java.util.Optional;
+
+import com.spring.emprendedoresApp.persistence.entities.RefreshTokenEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+
+public interface IRefreshTokenService {
+
+    /**
+     * Emite un refresh token opaco para el usuario y guarda su hash.
+     *
+     * @param user Usuario al que pertenece el token.
+     * @param familyId Familia del token anterior en una rotación, o null para iniciar una nueva (login).
+     * @return El refresh token en claro, que solo se entrega al cliente.
+     */
+    String issueRefreshToken(UserEntity user, String familyId);
+
+    /**
+     * Canjea un refresh token: si es válido lo marca como usado y lo devuelve.
+     * Si el token ya se había canjeado (reutilización) revoca toda su familia.
+     *
+     * @param refreshToken El refresh token presentado por el cliente.
+     * @return El token canjeado, o vacío si no es válido, ha caducado, está revocado o se ha reutilizado.
+     */
+    Optional<RefreshTokenEntity> consumeRefreshToken(String refreshToken);
+}
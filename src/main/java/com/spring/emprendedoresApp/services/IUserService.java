@@ -4,6 +4,7 @@ import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,8 +26,11 @@ public interface IUserService {
     // Eliminar un usuario
     boolean deleteUser(Long id);
 
-    // Obtener usuarios con paginación
-    Page<UserEntity> findAll(Pageable pageable);
+    // Obtener usuarios con paginación (sin recuento, solo hasNext)
+    Slice<UserEntity> findAll(Pageable pageable);
+
+    // Obtener usuarios con paginación y el total tomado de la caché de recuentos
+    Page<UserEntity> findAllWithTotal(Pageable pageable);
 
     // Actualizar parcialmente un usuario
     UserEntity updatePartialUser(Long id, UserEntity partialUser);
@@ -0,0 +1,14 @@
+package com.spring.emprendedoresApp.services;
+
+/**
+ * Se lanza cuando el cursor de paginación recibido no es un token emitido por la API.
+ * Se traduce a un 400.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
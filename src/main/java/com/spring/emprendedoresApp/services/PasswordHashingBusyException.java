@@ -0,0 +1,14 @@
+package com.spring.emprendedoresApp.services;
+
+/**
+ * Se lanza cuando el pool de hashing de contraseñas no puede aceptar más trabajo.
+ * Se traduce a un 503 con Retry-After para que el cliente reintente más tarde.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -3,125 +3,178 @@ package com.spring.emprendedoresApp.services.impl;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.spring.emprendedoresApp.models.dtos.LoginDTO;
+import com.spring.emprendedoresApp.models.dtos.RefreshTokenDTO;
 import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
-import com.spring.emprendedoresApp.models.validation.UserValidation;
-import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.RefreshTokenEntity;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
 import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
-import com.spring.emprendedoresApp.persistence.repositories.RoleRepository;
 import com.spring.emprendedoresApp.services.IAuthService;
 import com.spring.emprendedoresApp.services.IJWTUtilityService;
+import com.spring.emprendedoresApp.services.IPasswordHashingService;
+import com.spring.emprendedoresApp.services.IRefreshTokenService;
+import com.spring.emprendedoresApp.services.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class AuthServiceImpl implements IAuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private UserRegistration userRegistration;
 
     @Autowired
     private IJWTUtilityService jwtUtilityService;
 
     @Autowired
-    private UserValidation userValidation;
+    private IRefreshTokenService refreshTokenService;
+
+    @Autowired
+    private IPasswordHashingService passwordHashingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Duración del login por resultado y de la comprobación de la contraseña (cola + BCrypt)
+    private Timer loginSuccessTimer;
+    private Timer loginBadCredentialsTimer;
+    private Timer loginUnknownUserTimer;
+    private Timer loginErrorTimer;
+    private Timer verifyPasswordTimer;
+
+    @PostConstruct
+    public void init() {
+        loginSuccessTimer = loginTimer("success");
+        loginBadCredentialsTimer = loginTimer("bad_credentials");
+        loginUnknownUserTimer = loginTimer("unknown_user");
+        loginErrorTimer = loginTimer("error");
+        verifyPasswordTimer = Timer.builder("auth.password.verify")
+                .description("Comprobación de la contraseña en el login, incluida la espera en el pool de hashing")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     public HashMap<String, String> login(LoginDTO login) throws Exception {
+        long start = System.nanoTime();
+        Timer outcome = loginErrorTimer;
         try {
             HashMap<String, String> jwt = new HashMap<>();
             Optional<UserEntity> user = userRepository.findByEmail(login.getEmail());
 
             if (user.isEmpty()) {
+                outcome = loginUnknownUserTimer;
                 jwt.put("error", "User not Registered!");
                 return jwt;
             }
 
             if (verifyPassword(login.getPassword(), user.get().getPassword())) {
+                upgradePasswordHash(user.get(), login.getPassword());
+
                 // Aquí se obtiene el nombre del rol como String
                 String roleName = user.get().getRole().getRoleName().name();  // Accede al enum directamente
 
                 jwt.put("jwt", jwtUtilityService.generateJWT(user.get(), List.of(roleName)));
+
+                // Refresh token para renovar el access token sin volver a pasar por BCrypt
+                jwt.put("refreshToken", refreshTokenService.issueRefreshToken(user.get(), null));
+                outcome = loginSuccessTimer;
             } else {
+                outcome = loginBadCredentialsTimer;
                 jwt.put("error", "Authentication Failed");
             }
             return jwt;
+        } catch (PasswordHashingBusyException e) {
+            // Se propaga tal cual para responder 503 en lugar de 500
+            throw e;
         } catch (Exception e) {
             throw new Exception(e.toString());
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
 
     @Override
-    public ResponseDTO register(UserEntity user, String roleName) throws Exception {
+    public HashMap<String, String> refresh(RefreshTokenDTO refreshRequest) throws Exception {
         try {
-            ResponseDTO response = userValidation.validate(user);
-
-            if (response.getNumOfError() > 0) {
-                return response;
-            }
-
-            // Validación de usuarios duplicados por email
-            Optional<UserEntity> existingUser = userRepository.findByEmail(user.getEmail());
-            if (existingUser.isPresent()) {
-                response.setNumOfError(1);
-                response.setMessage("El correo ya está registrado!");
-                return response;
-            }
-
-            // Validación de usuarios duplicados por username (si es necesario)
-            Optional<UserEntity> existingUsername = userRepository.findByUsername(user.getUsername());
-            if (existingUsername.isPresent()) {
-                response.setNumOfError(1);
-                response.setMessage("El nombre de usuario ya está registrado!");
-                return response;
-            }
-
-            // Validar y asignar el rol recibido en la URL
-            RoleEntity.RoleName roleEnum;
-            try {
-                roleEnum = RoleEntity.RoleName.valueOf(roleName.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                response.setNumOfError(1);
-                response.setMessage("Rol no válido: " + roleName);
-                return response;
-            }
+            HashMap<String, String> jwt = new HashMap<>();
+            Optional<RefreshTokenEntity> consumed = refreshTokenService.consumeRefreshToken(refreshRequest.getRefreshToken());
 
-            // Buscar el rol correspondiente en la base de datos
-            RoleEntity role = roleRepository.findByRoleName(roleEnum);
-            if (role == null) {
-                response.setNumOfError(1);
-                response.setMessage("Rol no encontrado en la base de datos");
-                return response;
+            if (consumed.isEmpty()) {
+                jwt.put("error", "Invalid or expired refresh token");
+                return jwt;
             }
 
-            user.setRole(role);
+            // Rotación: se emite un access token nuevo y un refresh token nuevo de la misma familia
+            UserEntity user = consumed.get().getUser();
+            String roleName = user.getRole().getRoleName().name();
 
-            // Encriptar la contraseña
-            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
-            user.setPassword(encoder.encode(user.getPassword()));
-
-            // Guardar el usuario con el rol asignado
-            userRepository.save(user);
+            jwt.put("jwt", jwtUtilityService.generateJWT(user, List.of(roleName)));
+            jwt.put("refreshToken", refreshTokenService.issueRefreshToken(user, consumed.get().getFamilyId()));
+            return jwt;
+        } catch (Exception e) {
+            throw new Exception(e.toString());
+        }
+    }
 
-            response.setMessage("Usuario creado exitosamente!");
-            return response;
 
+    @Override
+    public ResponseDTO register(UserEntity user, String roleName) throws Exception {
+        // Validación, rol, hash e INSERT único; los duplicados los detectan las restricciones únicas
+        try {
+            return userRegistration.register(user, roleName);
+        } catch (PasswordHashingBusyException e) {
+            // Se propaga tal cual para responder 503 en lugar de 500
+            throw e;
         } catch (Exception e) {
             throw new Exception(e.toString());
         }
     }
 
+    // Si el hash guardado usa un coste BCrypt menor, se recalcula con el coste vigente aprovechando la contraseña en claro
+    private void upgradePasswordHash(UserEntity user, String rawPassword) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHashingService.rehash(rawPassword));
+            userRepository.save(user);
+        } catch (PasswordHashingBusyException e) {
+            // Con el pool saturado no se bloquea el login; se actualizará en el siguiente
+            log.debug("Actualización del hash de {} aplazada: {}", user.getEmail(), e.getMessage());
+        }
+    }
+
     private boolean verifyPassword(String enteredPassword, String storedPassword) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        return encoder.matches(enteredPassword, storedPassword);
+        long start = System.nanoTime();
+        try {
+            return passwordHashingService.matches(enteredPassword, storedPassword);
+        } finally {
+            verifyPasswordTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer loginTimer(String outcome) {
+        return Timer.builder("auth.login")
+                .description("Duración del login completo (búsqueda, BCrypt, JWT y refresh token)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,45 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Inserción masiva de entidades nuevas en lotes JDBC.
+ *
+ * Persiste las entidades dentro de la transacción del llamador y, cada {@code batch_size}
+ * filas, vuelca los INSERT (un único lote por tabla gracias a hibernate.order_inserts) y
+ * vacía el contexto de persistencia para que la memoria no crezca con el tamaño de la carga.
+ * Solo tiene efecto con entidades cuyo identificador no sea IDENTITY.
+ */
+@Component
+public class BulkInserter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Debe coincidir con hibernate.jdbc.batch_size para que cada volcado sea un lote completo
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * Inserta todas las entidades; debe llamarse dentro de una transacción.
+     * Al terminar, las entidades quedan desasociadas del contexto pero con su identificador asignado.
+     */
+    public <T> List<T> persistAll(List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return entities;
+    }
+}
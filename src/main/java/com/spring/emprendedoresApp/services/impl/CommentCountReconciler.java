@@ -0,0 +1,108 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Corrige periódicamente los contadores posts.comment_count que no coinciden con el número
+ * real de comentarios (p. ej. por filas borradas o insertadas fuera de la aplicación).
+ *
+ * Recorre la tabla por tramos de identificadores y recalcula cada tramo en su propia
+ * transacción, así que nunca bloquea toda la tabla y solo escribe las filas desviadas.
+ */
+@Component
+public class CommentCountReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentCountReconciler.class);
+
+    // Publicaciones revisadas por transacción
+    @Value("${comments.countReconcileBatchSize:1000}")
+    private int batchSize;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter repairedCounter;
+
+    // Resultado de la última ejecución, para el panel de administración
+    private volatile long lastRunAt;
+    private volatile int lastRepaired;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        repairedCounter = Counter.builder("comments.count.repaired")
+                .description("Contadores de comentarios de publicaciones corregidos por la reconciliación")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${comments.countReconcileMs:3600000}", initialDelayString = "${comments.countReconcileMs:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Falló la reconciliación de los contadores de comentarios", e);
+        }
+    }
+
+    /**
+     * Recalcula los contadores desviados de todas las publicaciones y devuelve cuántos ha corregido.
+     */
+    public int reconcile() {
+        int repaired = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = postRepository.findIdsAfter(afterId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            repaired += transactionTemplate.execute(status -> postRepository.reconcileCommentCounts(batch));
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == batchSize);
+
+        if (repaired > 0) {
+            log.warn("Contadores de comentarios corregidos: {}", repaired);
+        }
+        repairedCounter.increment(repaired);
+        lastRepaired = repaired;
+        lastRunAt = System.currentTimeMillis();
+        return repaired;
+    }
+
+    /**
+     * Fecha y correcciones de la última reconciliación.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("lastRunAt", lastRunAt == 0 ? null : lastRunAt);
+        description.put("lastRepaired", lastRepaired);
+        description.put("totalRepaired", (long) repairedCounter.count());
+        return description;
+    }
+}
@@ -6,8 +6,10 @@ import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
 import com.spring.emprendedoresApp.services.ICommentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class CommentServiceImpl implements ICommentService {
@@ -19,11 +21,15 @@ public class CommentServiceImpl implements ICommentService {
 	@Autowired
 	private PostRepository postRepository;
 
-	// Método para crear un nuevo comentario
+	@Autowired
+	private BulkInserter bulkInserter;
+
+	// Método para crear un nuevo comentario (el INSERT y el incremento del contador en la misma transacción)
 	@Override
+	@Transactional
 	public CommentEntity createComment(CommentEntity comment, Long postId) {
 		// Busca la publicación asociada al comentario por ID
-		var post = postRepository.findById(postId).orElse(null);
+		var post = postRepository.findActiveById(postId).orElse(null);
 
 		// Si no se encuentra la publicación, lanza una excepción o maneja el error
 		// adecuadamente
@@ -34,15 +40,35 @@ public class CommentServiceImpl implements ICommentService {
 		// Asigna la publicación al comentario
 		comment.setPost(post);
 
-		// Guarda el comentario en la base de datos y lo retorna
-		return commentRepository.save(comment);
+		// Guarda el comentario en la base de datos, suma uno al contador de la publicación y lo retorna
+		CommentEntity saved = commentRepository.save(comment);
+		postRepository.addToCommentCount(postId, 1);
+		return saved;
+	}
+
+	// Método para crear muchos comentarios de una publicación (una transacción, INSERT por lotes)
+	@Override
+	@Transactional
+	public List<CommentEntity> createComments(List<CommentEntity> comments, Long postId) {
+		var post = postRepository.findActiveById(postId).orElse(null);
+
+		if (post == null) {
+			throw new IllegalArgumentException("La publicación con ID " + postId + " no existe.");
+		}
+
+		for (CommentEntity comment : comments) {
+			comment.setPost(post);
+		}
+		List<CommentEntity> saved = bulkInserter.persistAll(comments);
+		postRepository.addToCommentCount(postId, saved.size());
+		return saved;
 	}
 
 	// Método para obtener todos los comentarios
 	@Override
 	public List<CommentEntity> getAllComments() {
-		// Devuelve todos los comentarios almacenados en la base de datos
-		return commentRepository.findAll();
+		// Devuelve los comentarios almacenados salvo los de publicaciones o usuarios borrados
+		return commentRepository.findAllVisible();
 	}
 
 	// Método para obtener los comentarios de una publicación específica por su ID
@@ -54,6 +80,7 @@ public class CommentServiceImpl implements ICommentService {
 	}
 
 	@Override
+	@Transactional
 	public CommentEntity updateComment(Long id, CommentEntity updatedComment) {
 		// Verifica si el comentario con el ID proporcionado existe en la base de datos
 		if (commentRepository.existsById(id)) {
@@ -62,7 +89,7 @@ public class CommentServiceImpl implements ICommentService {
 
 			// Verifica si la publicación asociada al comentario existe
 			if (updatedComment.getPost() != null && updatedComment.getPost().getId() != null) {
-				var post = postRepository.findById(updatedComment.getPost().getId()).orElse(null);
+				var post = postRepository.findActiveById(updatedComment.getPost().getId()).orElse(null);
 				if (post == null) {
 					throw new IllegalArgumentException("La publicación asociada al comentario no existe.");
 				}
@@ -74,6 +101,18 @@ public class CommentServiceImpl implements ICommentService {
 				updatedComment.setCreationDate(existingComment.getCreationDate());
 			}
 
+			// Si el comentario cambia de publicación, el contador pasa de una a otra
+			Long previousPostId = commentRepository.findPostIdById(id).orElse(null);
+			Long newPostId = updatedComment.getPost() != null ? updatedComment.getPost().getId() : null;
+			if (!Objects.equals(previousPostId, newPostId)) {
+				if (previousPostId != null) {
+					postRepository.addToCommentCount(previousPostId, -1);
+				}
+				if (newPostId != null) {
+					postRepository.addToCommentCount(newPostId, 1);
+				}
+			}
+
 			// Guarda y retorna el comentario actualizado
 			return commentRepository.save(updatedComment);
 		}
@@ -83,13 +122,17 @@ public class CommentServiceImpl implements ICommentService {
 		return null;
 	}
 
-	// Método para eliminar un comentario por su ID
+	// Método para eliminar un comentario por su ID (el DELETE y el descuento del contador en la misma transacción)
 	@Override
+	@Transactional
 	public boolean deleteComment(Long id) {
-		// Verifica si el comentario con el ID proporcionado existe en la base de datos
-		if (commentRepository.existsById(id)) {
-			// Si existe, elimina el comentario
-			commentRepository.deleteById(id);
+		// Publicación del comentario; si no hay, el comentario no existe
+		Long postId = commentRepository.findPostIdById(id).orElse(null);
+		// Solo descuenta quien borra realmente la fila (un borrado simultáneo obtiene 0)
+		if (commentRepository.removeById(id) == 1) {
+			if (postId != null) {
+				postRepository.addToCommentCount(postId, -1);
+			}
 			// Retorna true para indicar que la eliminación fue exitosa
 			return true;
 		}
@@ -0,0 +1,106 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spring.emprendedoresApp.models.dtos.CommentSummaryDTO;
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IExportService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Exportación completa en NDJSON.
+ *
+ * Cada exportación recorre un Stream del repositorio dentro de una transacción de solo lectura
+ * (en una réplica si las hay): la base de datos entrega las filas por bloques (fetch size) y cada
+ * fila se serializa en cuanto llega, sin acumular la tabla en una lista. Las publicaciones y los
+ * comentarios se leen como proyecciones; los usuarios son entidades y se separan del contexto de
+ * persistencia tras escribirlos, así que la memoria no crece con el número de filas.
+ */
+@Service
+public class ExportServiceImpl implements IExportService {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPosts(OutputStream out) throws IOException {
+        try (Stream<PostSummaryDTO> posts = postRepository.streamAllSummaries()) {
+            return write(posts, PostSummaryDTO.class, out, post -> { });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportComments(OutputStream out) throws IOException {
+        try (Stream<CommentSummaryDTO> comments = commentRepository.streamAllSummaries()) {
+            return write(comments, CommentSummaryDTO.class, out, comment -> { });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(OutputStream out) throws IOException {
+        // Sin caché de segundo nivel: una exportación completa desalojaría de la región "users" a los usuarios activos
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<UserEntity> users = userRepository.streamAll()) {
+            return write(users, UserEntity.class, out, entityManager::detach);
+        } finally {
+            session.setCacheMode(previousCacheMode);
+        }
+    }
+
+    // Una línea JSON por fila. El generador escribe en la salida cada vez que llena su búfer, sin
+    // vaciarla tras cada fila (FLUSH_AFTER_WRITE_VALUE), y la salida no se cierra aquí
+    private <T> long write(Stream<T> rows, Class<T> type, OutputStream out, Consumer<T> afterWrite) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        long written = 0;
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+                afterWrite.accept(row);
+                written++;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,274 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.spring.emprendedoresApp.models.dtos.CommentImportDTO;
+import com.spring.emprendedoresApp.models.dtos.ImportResultDTO;
+import com.spring.emprendedoresApp.models.dtos.PostImportDTO;
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IImportService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Importación masiva en NDJSON.
+ *
+ * El cuerpo se lee línea a línea, así que en memoria solo hay un lote de registros. Cada lote
+ * se escribe en su propia transacción: las referencias (autor, publicación) se comprueban con una
+ * consulta por lote, cada registro se valida con las mismas restricciones que la entidad y los
+ * válidos se insertan por lotes JDBC. Si la base de datos rechaza el lote completo, se reintenta
+ * registro a registro para aislar los que fallan sin perder el resto.
+ */
+@Service
+public class ImportServiceImpl implements IImportService {
+
+    // Registros por transacción
+    @Value("${import.batchSize:1000}")
+    private int batchSize;
+
+    // Errores detallados en la respuesta; el resto solo se cuentan
+    @Value("${import.maxReportedErrors:1000}")
+    private int maxReportedErrors;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BulkInserter bulkInserter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ImportResultDTO importPosts(InputStream ndjson) throws IOException {
+        return importRecords(ndjson, PostImportDTO.class, this::postMapper);
+    }
+
+    @Override
+    public ImportResultDTO importComments(InputStream ndjson) throws IOException {
+        return importRecords(ndjson, CommentImportDTO.class, this::commentMapper);
+    }
+
+    // Publicaciones: el autor debe existir
+    private RecordMapper<PostImportDTO> postMapper(List<PostImportDTO> batch) {
+        Set<Long> authors = existingIds(batch, PostImportDTO::getAuthorId, userRepository::findExistingIds);
+        return record -> {
+            if (!authors.contains(record.getAuthorId())) {
+                throw new InvalidRecordException("El autor con ID " + record.getAuthorId() + " no existe");
+            }
+            PostEntity post = new PostEntity();
+            post.setTitle(record.getTitle());
+            post.setContent(record.getContent());
+            post.setPostStatus(record.getPostStatus());
+            post.setPostType(record.getPostType());
+            post.setValido(record.isValido());
+            post.setCreationDate(record.getCreationDate());
+            post.setValidationDate(record.getValidationDate());
+            post.setAuthor(userRepository.getReferenceById(record.getAuthorId()));
+            return post;
+        };
+    }
+
+    // Comentarios: la publicación debe existir, y el usuario también si se indica
+    private RecordMapper<CommentImportDTO> commentMapper(List<CommentImportDTO> batch) {
+        Set<Long> posts = existingIds(batch, CommentImportDTO::getPostId, postRepository::findExistingIds);
+        Set<Long> users = existingIds(batch, CommentImportDTO::getUserId, userRepository::findExistingIds);
+        return record -> {
+            if (!posts.contains(record.getPostId())) {
+                throw new InvalidRecordException("La publicación con ID " + record.getPostId() + " no existe");
+            }
+            if (record.getUserId() != null && !users.contains(record.getUserId())) {
+                throw new InvalidRecordException("El usuario con ID " + record.getUserId() + " no existe");
+            }
+            CommentEntity comment = new CommentEntity();
+            comment.setText(record.getText());
+            comment.setCreationDate(record.getCreationDate());
+            comment.setPost(postRepository.getReferenceById(record.getPostId()));
+            if (record.getUserId() != null) {
+                comment.setUser(userRepository.getReferenceById(record.getUserId()));
+            }
+            return comment;
+        };
+    }
+
+    private <D> ImportResultDTO importRecords(InputStream ndjson, Class<D> type,
+                                              Function<List<D>, RecordMapper<D>> mapperForBatch) throws IOException {
+        ImportResultDTO result = new ImportResultDTO(maxReportedErrors);
+        ObjectReader reader = objectMapper.readerFor(type);
+        List<ParsedRecord<D>> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.addReceived();
+                try {
+                    batch.add(new ParsedRecord<>(lineNumber, reader.readValue(line)));
+                } catch (JsonProcessingException e) {
+                    result.addError(lineNumber, "JSON no válido: " + e.getOriginalMessage());
+                }
+                if (batch.size() == batchSize) {
+                    writeBatch(batch, mapperForBatch, result);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, mapperForBatch, result);
+        }
+        return result;
+    }
+
+    private <D> void writeBatch(List<ParsedRecord<D>> batch, Function<List<D>, RecordMapper<D>> mapperForBatch,
+                                ImportResultDTO result) {
+        List<ImportResultDTO.ImportErrorDTO> errors = new ArrayList<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> write(batch, mapperForBatch, errors));
+            result.addImported(imported);
+            errors.forEach(error -> result.addError(error.getLine(), error.getMessage()));
+        } catch (RuntimeException batchFailure) {
+            // La base de datos rechazó el lote (p. ej. un valor demasiado largo): se reintenta registro a registro
+            for (ParsedRecord<D> record : batch) {
+                List<ImportResultDTO.ImportErrorDTO> recordErrors = new ArrayList<>();
+                try {
+                    Integer imported = transactionTemplate.execute(status -> write(List.of(record), mapperForBatch, recordErrors));
+                    result.addImported(imported);
+                    recordErrors.forEach(error -> result.addError(error.getLine(), error.getMessage()));
+                } catch (RuntimeException recordFailure) {
+                    result.addError(record.line, NestedExceptionUtils.getMostSpecificCause(recordFailure).getMessage());
+                }
+            }
+        }
+    }
+
+    // Dentro de la transacción: convierte, valida e inserta los registros correctos
+    private <D> int write(List<ParsedRecord<D>> records, Function<List<D>, RecordMapper<D>> mapperForBatch,
+                          List<ImportResultDTO.ImportErrorDTO> errors) {
+        RecordMapper<D> mapper = mapperForBatch.apply(records.stream().map(record -> record.value).collect(Collectors.toList()));
+        List<Object> entities = new ArrayList<>(records.size());
+        for (ParsedRecord<D> record : records) {
+            try {
+                Object entity = mapper.toEntity(record.value);
+                Set<ConstraintViolation<Object>> violations = validator.validate(entity);
+                if (violations.isEmpty()) {
+                    entities.add(entity);
+                } else {
+                    errors.add(new ImportResultDTO.ImportErrorDTO(record.line, violations.stream()
+                            .map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "))));
+                }
+            } catch (InvalidRecordException e) {
+                errors.add(new ImportResultDTO.ImportErrorDTO(record.line, e.getMessage()));
+            }
+        }
+        bulkInserter.persistAll(entities);
+        addCommentCounts(entities);
+        indexPosts(entities);
+        return entities.size();
+    }
+
+    // Los comentarios insertados suman al contador de su publicación: un UPDATE por publicación del lote
+    private void addCommentCounts(List<Object> entities) {
+        Map<Long, Integer> commentsPerPost = new HashMap<>();
+        for (Object entity : entities) {
+            if (entity instanceof CommentEntity comment) {
+                commentsPerPost.merge(comment.getPost().getId(), 1, Integer::sum);
+            }
+        }
+        commentsPerPost.forEach(postRepository::addToCommentCount);
+    }
+
+    // Las publicaciones insertadas entran en el índice de búsqueda (y las publicadas en el autocompletado)
+    // cuando se confirma el lote
+    private void indexPosts(List<Object> entities) {
+        for (Object entity : entities) {
+            if (entity instanceof PostEntity post) {
+                postSearchIndex.index(post);
+                suggestionIndex.post(post);
+            }
+        }
+    }
+
+    // Identificadores referenciados por el lote que existen en la base de datos (una sola consulta)
+    private static <D> Set<Long> existingIds(List<D> batch, Function<D, Long> reference,
+                                             Function<Set<Long>, List<Long>> findExisting) {
+        Set<Long> referenced = batch.stream().map(reference).filter(Objects::nonNull).collect(Collectors.toSet());
+        return referenced.isEmpty() ? Set.of() : new HashSet<>(findExisting.apply(referenced));
+    }
+
+    // Convierte un registro en la entidad a insertar, o lanza InvalidRecordException con el motivo
+    private interface RecordMapper<D> {
+        Object toEntity(D record);
+    }
+
+    private static final class InvalidRecordException extends RuntimeException {
+
+        private InvalidRecordException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class ParsedRecord<D> {
+
+        private final long line;
+        private final D value;
+
+        private ParsedRecord(long line, D value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+}
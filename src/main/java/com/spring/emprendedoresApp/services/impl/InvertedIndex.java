@@ -0,0 +1,474 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria sobre el título y el contenido de las publicaciones, con ranking BM25.
+ *
+ * Cada documento recibe un ordinal creciente y cada término guarda su lista de documentos
+ * (postings) como pares (diferencia con el ordinal anterior, frecuencia) codificados en varint:
+ * con ordinales consecutivos la mayoría de entradas ocupan dos bytes. Las actualizaciones solo
+ * añaden al final: reindexar un documento marca su ordinal anterior como borrado y le asigna uno
+ * nuevo, y cuando los borrados superan una cuarta parte del índice se compacta. Las búsquedas
+ * comparten un cerrojo de lectura; las escrituras lo toman en exclusiva.
+ */
+public class InvertedIndex {
+
+    // Parámetros habituales de BM25: saturación de la frecuencia y peso de la longitud del documento
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Cada aparición en el título cuenta como TITLE_WEIGHT apariciones en el contenido
+    private static final int TITLE_WEIGHT = 3;
+
+    // Compactación cuando hay al menos COMPACT_MIN_DELETED borrados y suponen 1/4 de los ordinales
+    private static final int COMPACT_MIN_DELETED = 64;
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // Puntuaciones y documentos encontrados de la consulta en curso, reutilizados por cada hilo
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> terms = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    // Por ordinal: identificador de la publicación y longitud ponderada del documento
+    private long[] ids = new long[1024];
+    private int[] lengths = new int[1024];
+    private int ordinalCount;
+
+    private int liveDocuments;
+    private long liveLength;
+
+    /**
+     * Indexa (o reindexa) una publicación.
+     */
+    public void put(long id, String title, String content) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int length = count(SearchAnalyzer.terms(title), TITLE_WEIGHT, frequencies)
+                + count(SearchAnalyzer.terms(content), 1, frequencies);
+
+        lock.writeLock().lock();
+        try {
+            delete(id);
+            int ordinal = ordinalCount++;
+            if (ordinal == ids.length) {
+                ids = Arrays.copyOf(ids, ordinal * 2);
+                lengths = Arrays.copyOf(lengths, ordinal * 2);
+            }
+            ids[ordinal] = id;
+            lengths[ordinal] = length;
+            ordinals.put(id, ordinal);
+            liveDocuments++;
+            liveLength += length;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), term -> new Postings()).add(ordinal, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quita una publicación del índice. Devuelve false si no estaba.
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = delete(id);
+            int deletedCount = deleted.cardinality();
+            if (deletedCount >= COMPACT_MIN_DELETED && deletedCount * 4 >= ordinalCount) {
+                compact();
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Identificadores de las publicaciones que contienen algún término de la consulta, de mayor
+     * a menor puntuación BM25 (a igual puntuación, la indexada más recientemente primero).
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(SearchAnalyzer.terms(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocuments == 0) {
+                return List.of();
+            }
+            float averageLength = Math.max(1f, (float) liveLength / liveDocuments);
+            Scratch scratch = SCRATCH.get().ensureCapacity(ordinalCount);
+            float[] scores = scratch.scores;
+            int matchedCount = 0;
+            try {
+                for (String term : queryTerms) {
+                    Postings postings = terms.get(term);
+                    if (postings == null) {
+                        continue;
+                    }
+                    // El número de documentos incluye los borrados pendientes de compactar: una aproximación suficiente
+                    int documentFrequency = Math.min(postings.count, liveDocuments);
+                    float idf = (float) Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                    // Varint decodificado en línea: es el bucle que recorre todas las entradas del término
+                    byte[] data = postings.data;
+                    int position = 0;
+                    int ordinal = 0;
+                    while (position < postings.size) {
+                        int delta = 0;
+                        for (int shift = 0; ; shift += 7) {
+                            byte b = data[position++];
+                            delta |= (b & 0x7F) << shift;
+                            if (b >= 0) {
+                                break;
+                            }
+                        }
+                        int frequency = 0;
+                        for (int shift = 0; ; shift += 7) {
+                            byte b = data[position++];
+                            frequency |= (b & 0x7F) << shift;
+                            if (b >= 0) {
+                                break;
+                            }
+                        }
+                        ordinal += delta;
+                        if (deleted.get(ordinal)) {
+                            continue;
+                        }
+                        if (scores[ordinal] == 0) {
+                            scratch.matched[matchedCount++] = ordinal;
+                        }
+                        float norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                        scores[ordinal] += idf * frequency * (K1 + 1) / (frequency + norm);
+                    }
+                }
+                return top(scores, scratch.matched, matchedCount, limit);
+            } finally {
+                // El búfer se reutiliza en la siguiente consulta del hilo: solo se limpian las posiciones usadas
+                for (int i = 0; i < matchedCount; i++) {
+                    scores[scratch.matched[i]] = 0;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Los limit mejores con un montículo de mínimos sobre los ordinales (la raíz es el peor de los elegidos),
+    // ordenados después de mayor a menor; a igual puntuación gana el ordinal mayor
+    private List<Long> top(float[] scores, int[] matched, int matchedCount, int limit) {
+        int[] heap = new int[Math.min(limit, matchedCount)];
+        int heapSize = 0;
+        for (int i = 0; i < matchedCount; i++) {
+            int ordinal = matched[i];
+            if (heapSize < heap.length) {
+                heap[heapSize++] = ordinal;
+                siftUp(heap, heapSize - 1, scores);
+            } else if (better(ordinal, heap[0], scores)) {
+                heap[0] = ordinal;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        Long[] result = new Long[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = ids[heap[0]];
+            heap[0] = heap[i];
+            siftDown(heap, i, scores);
+        }
+        return Arrays.asList(result);
+    }
+
+    private static boolean better(int a, int b, float[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int position, float[] scores) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!better(heap[parent], heap[position], scores)) {
+                break;
+            }
+            int swap = heap[parent];
+            heap[parent] = heap[position];
+            heap[position] = swap;
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && better(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!better(heap[position], heap[child], scores)) {
+                break;
+            }
+            int swap = heap[child];
+            heap[child] = heap[position];
+            heap[position] = swap;
+            position = child;
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tamaño del índice, para el panel de administración.
+     */
+    public Map<String, Object> describe() {
+        lock.readLock().lock();
+        try {
+            long postingsBytes = 0;
+            for (Postings postings : terms.values()) {
+                postingsBytes += postings.size;
+            }
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("documents", liveDocuments);
+            description.put("deletedDocuments", deleted.cardinality());
+            description.put("terms", terms.size());
+            description.put("postingsBytes", postingsBytes);
+            return description;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Escribe el índice completo (con sus postings ya comprimidos) en el flujo indicado.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(ordinalCount);
+            for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+                out.writeLong(ids[ordinal]);
+                out.writeInt(lengths[ordinal]);
+            }
+            long[] deletedWords = deleted.toLongArray();
+            out.writeInt(deletedWords.length);
+            for (long word : deletedWords) {
+                out.writeLong(word);
+            }
+            out.writeInt(terms.size());
+            for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+                Postings postings = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeInt(postings.count);
+                out.writeInt(postings.lastOrdinal);
+                out.writeInt(postings.size);
+                out.write(postings.data, 0, postings.size);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lee un índice escrito con {@link #writeTo(DataOutputStream)}. Ningún recuento ni longitud
+     * puede superar {@code maxBytes} (el tamaño del fichero): así un fichero dañado produce una
+     * IOException en lugar de reservar un array gigante o de tamaño negativo.
+     */
+    public static InvertedIndex readFrom(DataInputStream in, long maxBytes) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Formato de índice no reconocido");
+        }
+        InvertedIndex index = new InvertedIndex();
+        // Cada documento ocupa 12 bytes (identificador y longitud)
+        int ordinalCount = readLength(in, maxBytes / 12);
+        index.ids = new long[Math.max(1024, ordinalCount)];
+        index.lengths = new int[index.ids.length];
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            index.ids[ordinal] = in.readLong();
+            index.lengths[ordinal] = in.readInt();
+        }
+        index.ordinalCount = ordinalCount;
+        long[] deletedWords = new long[readLength(in, maxBytes / 8)];
+        for (int i = 0; i < deletedWords.length; i++) {
+            deletedWords[i] = in.readLong();
+        }
+        index.deleted.or(BitSet.valueOf(deletedWords));
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (!index.deleted.get(ordinal)) {
+                index.ordinals.put(index.ids[ordinal], ordinal);
+                index.liveDocuments++;
+                index.liveLength += index.lengths[ordinal];
+            }
+        }
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            String term = in.readUTF();
+            Postings postings = new Postings();
+            postings.count = in.readInt();
+            postings.lastOrdinal = in.readInt();
+            postings.size = readLength(in, maxBytes);
+            postings.data = new byte[Math.max(8, postings.size)];
+            in.readFully(postings.data, 0, postings.size);
+            index.terms.put(term, postings);
+        }
+        return index;
+    }
+
+    /**
+     * Lee un recuento o una longitud guardados en disco; uno negativo o mayor que {@code max} solo
+     * puede venir de un fichero dañado.
+     */
+    static int readLength(DataInputStream in, long max) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > max) {
+            throw new IOException("Longitud no válida en el índice de búsqueda: " + length);
+        }
+        return length;
+    }
+
+    // Con el cerrojo de escritura tomado
+    private boolean delete(long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return false;
+        }
+        deleted.set(ordinal);
+        liveDocuments--;
+        liveLength -= lengths[ordinal];
+        return true;
+    }
+
+    // Reescribe los postings sin los documentos borrados y renumera los ordinales (mantienen su orden)
+    private void compact() {
+        int[] remap = new int[ordinalCount];
+        int next = 0;
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = next;
+                ids[next] = ids[ordinal];
+                lengths[next] = lengths[ordinal];
+                ordinals.put(ids[next], next);
+                next++;
+            }
+        }
+        ordinalCount = next;
+        deleted.clear();
+
+        List<String> emptyTerms = new ArrayList<>();
+        for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+            Postings compacted = entry.getValue().remap(remap);
+            if (compacted.count == 0) {
+                emptyTerms.add(entry.getKey());
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+        emptyTerms.forEach(terms::remove);
+    }
+
+    private static int count(List<String> tokens, int weight, Map<String, Integer> frequencies) {
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private static final class Scratch {
+
+        private float[] scores = new float[0];
+        private int[] matched = new int[0];
+
+        private Scratch ensureCapacity(int ordinals) {
+            if (scores.length < ordinals) {
+                scores = new float[ordinals];
+                matched = new int[ordinals];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Lista de documentos de un término: pares (delta de ordinal, frecuencia) en varint.
+     */
+    private static final class Postings {
+
+        private byte[] data = new byte[8];
+        private int size;
+        private int count;
+        private int lastOrdinal;
+
+        private void add(int ordinal, int frequency) {
+            writeVarInt(ordinal - lastOrdinal);
+            writeVarInt(frequency);
+            lastOrdinal = ordinal;
+            count++;
+        }
+
+        private Postings remap(int[] remap) {
+            Postings compacted = new Postings();
+            int[] cursor = new int[1];
+            int ordinal = 0;
+            while (cursor[0] < size) {
+                ordinal += readVarInt(cursor);
+                int frequency = readVarInt(cursor);
+                if (remap[ordinal] >= 0) {
+                    compacted.add(remap[ordinal], frequency);
+                }
+            }
+            return compacted;
+        }
+
+        private void writeVarInt(int value) {
+            if (size + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[size++] = (byte) value;
+        }
+
+        private int readVarInt(int[] cursor) {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[cursor[0]++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spring.emprendedoresApp.persistence.entities.PostEntity.PostStatus;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+
+/**
+ * Totales de los listados paginados (publicaciones por estado y usuarios), calculados con
+ * una consulta agrupada y refrescados periódicamente en lugar de lanzar un COUNT(*) en cada
+ * petición. Los valores pueden ir por detrás de la base de datos como mucho
+ * {@code listing.countRefreshMs}; solo se usan cuando el cliente pide el total explícitamente.
+ */
+@Component
+public class ListingCountCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ListingCountCache.class);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Último recuento completo; se sustituye de forma atómica en cada refresco (null = aún no calculado)
+    private volatile Counts counts;
+
+    /**
+     * Número de publicaciones con el estado indicado según el último refresco.
+     */
+    public long countPostsByStatus(PostStatus postStatus) {
+        return current().postsByStatus.getOrDefault(postStatus, 0L);
+    }
+
+    /**
+     * Número de usuarios según el último refresco.
+     */
+    public long countUsers() {
+        return current().users;
+    }
+
+    /**
+     * Recalcula todos los totales. Si la consulta falla se mantienen los valores anteriores.
+     */
+    @Scheduled(fixedDelayString = "${listing.countRefreshMs:60000}", initialDelayString = "${listing.countRefreshMs:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        try {
+            counts = load();
+        } catch (RuntimeException e) {
+            log.error("No se pudieron refrescar los totales de los listados; se mantienen los anteriores", e);
+        }
+    }
+
+    /**
+     * Totales vigentes y antigüedad del último refresco, para el panel de administración.
+     */
+    public Map<String, Object> describe() {
+        Counts snapshot = current();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("postsByStatus", snapshot.postsByStatus);
+        description.put("users", snapshot.users);
+        description.put("ageMs", System.currentTimeMillis() - snapshot.loadedAt);
+        return description;
+    }
+
+    // La primera petición que necesita un total lo calcula; las demás esperan a ese mismo cálculo
+    private Counts current() {
+        Counts snapshot = counts;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = counts;
+                if (snapshot == null) {
+                    snapshot = load();
+                    counts = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Counts load() {
+        Map<PostStatus, Long> postsByStatus = new EnumMap<>(PostStatus.class);
+        List<Object[]> rows = postRepository.countByPostStatus();
+        for (Object[] row : rows) {
+            postsByStatus.put((PostStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return new Counts(postsByStatus, userRepository.countByDeletedAtIsNull(), System.currentTimeMillis());
+    }
+
+    private static final class Counts {
+
+        private final Map<PostStatus, Long> postsByStatus;
+        private final long users;
+        private final long loadedAt;
+
+        private Counts(Map<PostStatus, Long> postsByStatus, long users, long loadedAt) {
+            this.postsByStatus = postsByStatus;
+            this.users = users;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.spring.emprendedoresApp.services.IPasswordHashingService;
+import com.spring.emprendedoresApp.services.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hashing de contraseñas aislado del resto de la API.
+ *
+ * BCrypt se ejecuta en un pool propio, del tamaño del número de núcleos y con una cola
+ * acotada. Si llega una ráfaga de logins o registros que no cabe en la cola, se rechaza al
+ * instante con {@link PasswordHashingBusyException} (503) en lugar de ocupar todos los hilos
+ * de Tomcat y dejar sin servicio a las lecturas baratas.
+ *
+ * El coste BCrypt se calibra al arrancar: se elige el mayor coste cuyo hash tarda como mucho
+ * {@code security.password.targetHashMillis} en esta máquina, sin bajar nunca de
+ * {@code security.password.minCost}. Los hashes guardados con un coste menor se recalculan en el
+ * siguiente login correcto (ver {@link #needsRehash(String)}); los de coste mayor se conservan, así
+ * que ni una calibración más baja ni dos instancias calibradas distinto debilitan un hash.
+ */
+@Service
+public class PasswordHashingServiceImpl implements IPasswordHashingService, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingServiceImpl.class);
+
+    // Límite superior de la calibración: cada punto de coste duplica el tiempo de hash
+    private static final int MAX_COST = 16;
+
+    // Contraseña de prueba para medir el tiempo de hash durante la calibración
+    private static final String CALIBRATION_PASSWORD = "calibracion#bcrypt";
+
+    // Hilos del pool; 0 = uno por núcleo disponible
+    @Value("${security.password.threads:0}")
+    private int threads;
+
+    // Tareas que pueden esperar en cola antes de empezar a rechazar
+    @Value("${security.password.queueCapacity:64}")
+    private int queueCapacity;
+
+    // Tiempo máximo que una petición espera a su hash (cola + cálculo)
+    @Value("${security.password.timeoutMs:5000}")
+    private long timeoutMs;
+
+    // Coste BCrypt fijo de los hashes nuevos; 0 = calibrarlo al arrancar
+    @Value("${security.password.cost:0}")
+    private int configuredCost;
+
+    // Latencia objetivo (ms) de un hash para la calibración
+    @Value("${security.password.targetHashMillis:100}")
+    private long targetHashMillis;
+
+    // Coste mínimo aceptable, aunque la máquina sea lenta
+    @Value("${security.password.minCost:10}")
+    private int minCost;
+
+    private int cost;
+
+    private BCryptPasswordEncoder encoder;
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    // Verificaciones por coste del hash guardado, y hashes recalculados en el login
+    private final Map<Integer, LongAdder> verificationsByCost = new ConcurrentHashMap<>();
+    private final LongAdder rehashes = new LongAdder();
+
+    // Registro de métricas recibido en bindTo, para los contadores de costes que aparecen después
+    private volatile MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        cost = configuredCost > 0 ? configuredCost : calibrate();
+        encoder = new BCryptPasswordEncoder(cost);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return execute(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        if (storedCost > 0) {
+            verificationsByCost.computeIfAbsent(storedCost, this::verificationCounter).increment();
+        }
+        return execute(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    @Override
+    public String rehash(String rawPassword) {
+        String encoded = hash(rawPassword);
+        rehashes.increment();
+        return encoded;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // Publica el estado del pool en Micrometer (password.hashing.*)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Operaciones de contraseña esperando en la cola")
+                .register(registry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hilos calculando un hash BCrypt")
+                .register(registry);
+        Gauge.builder("password.hashing.cost", this, PasswordHashingServiceImpl::getCost)
+                .description("Coste BCrypt vigente")
+                .register(registry);
+        FunctionTimer.builder("password.hashing.duration", this, s -> s.hashCount.sum(), s -> s.hashNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Tiempo de cálculo de los hashes BCrypt")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejections", rejections, LongAdder::sum)
+                .description("Operaciones rechazadas con el pool saturado")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.timeouts", timeouts, LongAdder::sum)
+                .description("Operaciones que superaron el tiempo máximo de espera")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rehashes", rehashes, LongAdder::sum)
+                .description("Hashes recalculados con el coste vigente en un login correcto")
+                .register(registry);
+        meterRegistry = registry;
+        verificationsByCost.forEach(this::registerVerificationCounter);
+    }
+
+    /**
+     * Métricas del pool: profundidad de la cola, hilos ocupados, latencia de hash y rechazos.
+     */
+    public Map<String, Object> describe() {
+        long count = hashCount.sum();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("cost", cost);
+        description.put("targetHashMillis", targetHashMillis);
+        description.put("poolSize", executor.getPoolSize());
+        description.put("activeThreads", executor.getActiveCount());
+        description.put("queueDepth", executor.getQueue().size());
+        description.put("queueCapacity", queueCapacity);
+        description.put("hashes", count);
+        description.put("avgHashMillis", count == 0 ? 0.0 : hashNanos.sum() / 1e6 / count);
+        description.put("maxHashMillis", maxHashNanos.get() / 1e6);
+        description.put("avgQueueWaitMillis", count == 0 ? 0.0 : queueWaitNanos.sum() / 1e6 / count);
+        description.put("rejections", rejections.sum());
+        description.put("timeouts", timeouts.sum());
+        Map<Integer, Long> byCost = new TreeMap<>();
+        verificationsByCost.forEach((storedCost, counter) -> byCost.put(storedCost, counter.sum()));
+        description.put("verificationsByStoredCost", byCost);
+        description.put("rehashesOnLogin", rehashes.sum());
+        return description;
+    }
+
+    // Contador de verificaciones de hashes con el coste indicado, publicado en cuanto aparece el primero
+    private LongAdder verificationCounter(int storedCost) {
+        LongAdder counter = new LongAdder();
+        registerVerificationCounter(storedCost, counter);
+        return counter;
+    }
+
+    // Micrometer devuelve el contador ya registrado si bindTo y la primera verificación coinciden
+    private void registerVerificationCounter(int storedCost, LongAdder counter) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            FunctionCounter.builder("password.hashing.verifications", counter, LongAdder::sum)
+                    .description("Contraseñas verificadas según el coste BCrypt de su hash guardado")
+                    .tag("cost", String.valueOf(storedCost))
+                    .register(registry);
+        }
+    }
+
+    // Sube el coste mientras el hash siga por debajo del objetivo; cada punto duplica el tiempo
+    private int calibrate() {
+        int calibrated = minCost;
+        long millis = measureHashMillis(calibrated);
+        while (calibrated < MAX_COST && millis * 2 <= targetHashMillis) {
+            calibrated++;
+            millis = measureHashMillis(calibrated);
+        }
+        log.info("Coste BCrypt calibrado: {} ({} ms por hash, objetivo {} ms)", calibrated, millis, targetHashMillis);
+        return calibrated;
+    }
+
+    // Mejor de tres mediciones, para no penalizar la calibración con el arranque en frío de la JVM
+    private static long measureHashMillis(int cost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return best;
+    }
+
+    // Coste de un hash BCrypt ("$2a$12$..."), o 0 si no tiene ese formato
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return 0;
+        }
+        char tens = encodedPassword.charAt(4);
+        char units = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) {
+            return 0;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashCount.increment();
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingBusyException("Demasiadas operaciones de contraseña en curso, inténtelo de nuevo");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            throw new PasswordHashingBusyException("La operación de contraseña ha tardado demasiado, inténtelo de nuevo");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Operación de contraseña interrumpida");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Índice de búsqueda de publicaciones ({@link InvertedIndex}) persistido en {@code search.indexDir}.
+ *
+ * En disco hay una instantánea del índice completo y un registro de operaciones (WAL) con cada
+ * alta, cambio o baja posterior. Al arrancar se carga la instantánea y se reaplica el registro;
+ * solo si faltan, están dañados o el número de documentos no coincide con el de publicaciones visibles se
+ * reconstruye desde la base de datos. Las operaciones se aplican tras el commit de la transacción
+ * que modifica la publicación, y periódicamente se escribe una instantánea nueva y se vacía el registro.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private static final String SNAPSHOT_FILE = "posts.snapshot";
+    private static final String WAL_FILE = "posts.wal";
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+
+    @Value("${search.indexDir:data/search-index}")
+    private String indexDir;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // Estado del registro en disco; solo se modifica dentro de bloques synchronized
+    private DataOutputStream wal;
+    private int walOperations;
+
+    // Operaciones que llegan mientras se reconstruye el índice (null = no hay reconstrucción en curso)
+    private List<IndexOperation> pendingDuringRebuild;
+
+    // Una sola reconstrucción a la vez
+    private final Object rebuildLock = new Object();
+
+    private volatile String loadedFrom;
+    private volatile long lastSnapshotAt;
+    private volatile long lastRebuildAt;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory());
+        InvertedIndex loaded = null;
+        int replayed = 0;
+        synchronized (this) {
+            closeWal();
+            if (Files.exists(snapshotFile())) {
+                try {
+                    loaded = readSnapshot();
+                    replayed = replayWal(loaded);
+                } catch (IOException | RuntimeException e) {
+                    // Cualquier fallo al leer ficheros dañados (no solo de E/S) se resuelve reconstruyendo
+                    log.warn("No se pudo leer el índice de búsqueda de {}; se reconstruye", directory(), e);
+                    loaded = null;
+                }
+            }
+        }
+
+        long posts = postRepository.countActive();
+        if (loaded == null || loaded.size() != posts) {
+            if (loaded != null) {
+                log.warn("El índice de búsqueda tiene {} publicaciones y la base de datos {}; se reconstruye", loaded.size(), posts);
+            }
+            rebuild();
+            loadedFrom = "database";
+            return;
+        }
+        synchronized (this) {
+            index = loaded;
+            loadedFrom = "disk";
+            // Las operaciones reaplicadas pasan a la instantánea; el registro vuelve a empezar vacío
+            writeSnapshot();
+        }
+        log.info("Índice de búsqueda cargado de {}: {} publicaciones ({} operaciones del registro)", directory(), posts, replayed);
+    }
+
+    /**
+     * Publicaciones que mejor coinciden con la consulta, de más a menos relevante.
+     */
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /**
+     * Indexa (o reindexa) la publicación cuando se confirme la transacción en curso.
+     */
+    public void index(PostEntity post) {
+        afterCommit(IndexOperation.put(post.getId(), post.getTitle(), post.getContent()));
+    }
+
+    /**
+     * Quita la publicación del índice cuando se confirme la transacción en curso.
+     */
+    public void remove(Long postId) {
+        afterCommit(IndexOperation.delete(postId));
+    }
+
+    /**
+     * Vuelve a crear el índice leyendo todas las publicaciones. Las búsquedas siguen usando el
+     * índice anterior hasta que termina.
+     */
+    public void rebuild() throws IOException {
+        synchronized (rebuildLock) {
+            InvertedIndex rebuilt = new InvertedIndex();
+            synchronized (this) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                readOnly.setReadOnly(true);
+                readOnly.executeWithoutResult(status -> {
+                    try (Stream<PostSummaryDTO> posts = postRepository.streamAllSummaries()) {
+                        posts.forEach(post -> rebuilt.put(post.getId(), post.getTitle(), post.getContent()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                // Lo modificado durante la lectura se reaplica encima: cada operación deja el estado final de su publicación
+                pendingDuringRebuild.forEach(operation -> operation.applyTo(rebuilt));
+                pendingDuringRebuild = null;
+                index = rebuilt;
+                lastRebuildAt = System.currentTimeMillis();
+                writeSnapshot();
+            }
+            log.info("Índice de búsqueda reconstruido: {} publicaciones", rebuilt.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.snapshotIntervalMs:60000}", initialDelayString = "${search.snapshotIntervalMs:60000}")
+    public synchronized void scheduledSnapshot() {
+        if (walOperations == 0) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            log.error("No se pudo guardar la instantánea del índice de búsqueda", e);
+        }
+    }
+
+    /**
+     * Tamaño del índice y estado de su copia en disco, para el panel de administración.
+     */
+    public synchronized Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>(index.describe());
+        description.put("directory", directory().toAbsolutePath().toString());
+        description.put("loadedFrom", loadedFrom);
+        description.put("walOperations", walOperations);
+        description.put("lastSnapshotAt", lastSnapshotAt == 0 ? null : lastSnapshotAt);
+        description.put("lastRebuildAt", lastRebuildAt == 0 ? null : lastRebuildAt);
+        return description;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            if (walOperations > 0) {
+                writeSnapshot();
+            }
+        } catch (IOException e) {
+            log.error("No se pudo guardar la instantánea del índice de búsqueda al cerrar", e);
+        }
+        closeWal();
+    }
+
+    // Dentro de una transacción, la operación espera al commit (y se descarta con el rollback)
+    private void afterCommit(IndexOperation operation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(operation);
+                }
+            });
+        } else {
+            apply(operation);
+        }
+    }
+
+    private synchronized void apply(IndexOperation operation) {
+        try {
+            if (wal != null) {
+                operation.writeTo(wal);
+                wal.flush();
+                walOperations++;
+            }
+        } catch (IOException e) {
+            // El índice en memoria sigue al día; la próxima instantánea deja el disco coherente
+            log.error("No se pudo escribir en el registro del índice de búsqueda", e);
+        }
+        operation.applyTo(index);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(operation);
+        }
+    }
+
+    // Instantánea completa en un fichero temporal que sustituye al anterior de forma atómica; después
+    // se vacía el registro. Si se interrumpe entre ambos pasos, el registro se reaplica sin efecto
+    // (cada operación deja el estado final de su publicación)
+    private void writeSnapshot() throws IOException {
+        Path temporary = directory().resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+            index.writeTo(out);
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, snapshotFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        closeWal();
+        wal = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(walFile(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+        walOperations = 0;
+        lastSnapshotAt = System.currentTimeMillis();
+    }
+
+    private InvertedIndex readSnapshot() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile()), 64 * 1024))) {
+            return InvertedIndex.readFrom(in, Files.size(snapshotFile()));
+        }
+    }
+
+    // Reaplica el registro sobre la instantánea; un último registro incompleto (corte a mitad de escritura) se ignora
+    private int replayWal(InvertedIndex target) throws IOException {
+        if (!Files.exists(walFile())) {
+            return 0;
+        }
+        int replayed = 0;
+        long maxBytes = Files.size(walFile());
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(walFile())))) {
+            while (true) {
+                IndexOperation operation;
+                try {
+                    operation = IndexOperation.readFrom(in, maxBytes);
+                } catch (EOFException e) {
+                    break;
+                }
+                operation.applyTo(target);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private void closeWal() {
+        if (wal != null) {
+            try {
+                wal.close();
+            } catch (IOException e) {
+                log.warn("No se pudo cerrar el registro del índice de búsqueda", e);
+            }
+            wal = null;
+        }
+    }
+
+    private Path directory() {
+        return Path.of(indexDir);
+    }
+
+    private Path snapshotFile() {
+        return directory().resolve(SNAPSHOT_FILE);
+    }
+
+    private Path walFile() {
+        return directory().resolve(WAL_FILE);
+    }
+
+    /**
+     * Alta o cambio (con título y contenido) o baja (sin ellos) de una publicación, tal como se
+     * guarda en el registro: tipo, identificador y, en las altas, título y contenido en UTF-8.
+     */
+    private static final class IndexOperation {
+
+        private final boolean delete;
+        private final long postId;
+        private final String title;
+        private final String content;
+
+        private IndexOperation(boolean delete, long postId, String title, String content) {
+            this.delete = delete;
+            this.postId = postId;
+            this.title = title;
+            this.content = content;
+        }
+
+        private static IndexOperation put(long postId, String title, String content) {
+            return new IndexOperation(false, postId, title, content);
+        }
+
+        private static IndexOperation delete(long postId) {
+            return new IndexOperation(true, postId, null, null);
+        }
+
+        private void applyTo(InvertedIndex target) {
+            if (delete) {
+                target.remove(postId);
+            } else {
+                target.put(postId, title, content);
+            }
+        }
+
+        private void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(delete ? OP_DELETE : OP_PUT);
+            out.writeLong(postId);
+            if (!delete) {
+                writeText(out, title);
+                writeText(out, content);
+            }
+        }
+
+        // Las longitudes de texto no pueden superar maxBytes (el tamaño del registro)
+        private static IndexOperation readFrom(DataInputStream in, long maxBytes) throws IOException {
+            int type = in.read();
+            if (type < 0) {
+                throw new EOFException();
+            }
+            long postId = in.readLong();
+            if (type == OP_DELETE) {
+                return delete(postId);
+            }
+            if (type != OP_PUT) {
+                throw new IOException("Operación desconocida en el registro del índice de búsqueda: " + type);
+            }
+            return put(postId, readText(in, maxBytes), readText(in, maxBytes));
+        }
+
+        private static void writeText(DataOutputStream out, String text) throws IOException {
+            byte[] bytes = (text == null ? "" : text).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readText(DataInputStream in, long maxBytes) throws IOException {
+            byte[] bytes = new byte[InvertedIndex.readLength(in, maxBytes)];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
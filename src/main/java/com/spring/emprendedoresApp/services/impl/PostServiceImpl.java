@@ -1,60 +1,126 @@
 package com.spring.emprendedoresApp.services.impl;
 
+import com.spring.emprendedoresApp.models.dtos.CursorPageDTO;
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.models.dtos.SuggestionsDTO;
 import com.spring.emprendedoresApp.persistence.entities.PostEntity;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
 import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
 import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
 import com.spring.emprendedoresApp.services.IPostService;
+import com.spring.emprendedoresApp.services.InvalidCursorException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class PostServiceImpl implements IPostService {
 
+    // Tamaño máximo de página en los listados por cursor
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Sugerencias máximas por tipo en el autocompletado
+    private static final int MAX_SUGGESTIONS = 20;
+
     @Autowired
     private PostRepository postRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ListingCountCache listingCountCache;
+
+    @Autowired
+    private BulkInserter bulkInserter;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
     @Override
     public PostEntity getPostById(Long id) {
-        return postRepository.findById(id).orElse(null);
+        return postRepository.findActiveById(id).orElse(null);
     }
 
     @Override
     public PostEntity createPost(PostEntity post, Long authorId) {
-        UserEntity author = userRepository.findById(authorId).orElse(null);
+        UserEntity author = userRepository.findActiveById(authorId).orElse(null);
 
         if (author == null) {
             throw new RuntimeException("El autor con ID " + authorId + " no existe");
         }
 
         post.setAuthor(author);
-        return postRepository.save(post);
+        PostEntity saved = postRepository.save(post);
+        postSearchIndex.index(saved);
+        suggestionIndex.post(saved);
+        return saved;
     }
 
     @Override
-    public List<PostEntity> getAllPosts() {
-        return postRepository.findAll();
+    @Transactional
+    public List<PostEntity> createPosts(List<PostEntity> posts, Long authorId) {
+        UserEntity author = userRepository.findActiveById(authorId).orElse(null);
+
+        if (author == null) {
+            throw new RuntimeException("El autor con ID " + authorId + " no existe");
+        }
+
+        for (PostEntity post : posts) {
+            post.setAuthor(author);
+        }
+        List<PostEntity> saved = bulkInserter.persistAll(posts);
+        // Se indexan al confirmar la transacción
+        saved.forEach(postSearchIndex::index);
+        saved.forEach(suggestionIndex::post);
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryDTO> getAllPosts() {
+        return postRepository.findAllSummaries();
     }
 
     @Override
-    public List<PostEntity> getPostsByAuthor(Long authorId) {
-        return postRepository.findByAuthorId(authorId);
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PostSummaryDTO> getPostsByAuthor(Long authorId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        // Se pide una fila de más para saber si hay página siguiente sin hacer un COUNT
+        Limit limit = Limit.of(pageSize + 1);
+        List<PostSummaryDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.findSummariesByAuthorId(authorId, limit);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            rows = postRepository.findSummariesByAuthorIdAfter(authorId, after.creationDate, after.id, limit);
+        }
+        return toCursorPage(rows, pageSize);
     }
 
     @Override
     public PostEntity updatePost(Long id, PostEntity updatedPost) {
-        PostEntity existingPost = postRepository.findById(id).orElse(null);
+        PostEntity existingPost = postRepository.findActiveById(id).orElse(null);
 
         if (existingPost == null) {
             return null;
@@ -71,13 +137,21 @@ public class PostServiceImpl implements IPostService {
         }
 
         // Retornamos la entidad actualizada, pero conservando los datos existentes como comentarios
-        return postRepository.save(existingPost);
+        PostEntity saved = postRepository.save(existingPost);
+        postSearchIndex.index(saved);
+        // Si deja de estar publicada, sale del autocompletado
+        suggestionIndex.post(saved);
+        return saved;
     }
 
+    // Borrado lógico: un UPDATE de una fila, sin cargar los comentarios; SoftDeleteReaper los purga
+    // después por lotes junto con la publicación
     @Override
+    @Transactional
     public boolean deletePost(Long id) {
-        if (postRepository.existsById(id)) {
-            postRepository.deleteById(id);
+        if (postRepository.softDelete(id, LocalDateTime.now()) == 1) {
+            postSearchIndex.remove(id);
+            suggestionIndex.removePost(id);
             return true;
         }
         return false;
@@ -85,7 +159,7 @@ public class PostServiceImpl implements IPostService {
 
     @Override
     public PostEntity validatePost(Long id) {
-        PostEntity post = postRepository.findById(id).orElse(null);
+        PostEntity post = postRepository.findActiveById(id).orElse(null);
         if (post != null) {
             post.setValido(true);  // Cambia el estado de validez
             post.setValidationDate(LocalDateTime.now());  // Asigna la fecha de validación
@@ -95,8 +169,112 @@ public class PostServiceImpl implements IPostService {
     }
     
     @Override
-    public Page<PostEntity> getPostsByStatus(PostEntity.PostStatus postStatus, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return postRepository.findByPostStatus(postStatus, pageable);
+    @Transactional(readOnly = true)
+    public Slice<PostSummaryDTO> getPostsByStatus(PostEntity.PostStatus postStatus, int page, int size) {
+        Pageable pageable = PageRequest.of(page, clampPageSize(size));
+        return postRepository.findSummariesByPostStatus(postStatus, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> getPostsByStatusWithTotal(PostEntity.PostStatus postStatus, int page, int size) {
+        Slice<PostSummaryDTO> slice = getPostsByStatus(postStatus, page, size);
+        // PageImpl corrige el total si la página devuelta demuestra que el valor en caché se ha quedado corto
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), listingCountCache.countPostsByStatus(postStatus));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PostSummaryDTO> getPostsByStatus(PostEntity.PostStatus postStatus, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<PostSummaryDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.findSummariesByPostStatus(postStatus, limit);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            rows = postRepository.findSummariesByPostStatusAfter(postStatus, after.creationDate, after.id, limit);
+        }
+        return toCursorPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryDTO> searchPosts(String query, int size) {
+        // El índice devuelve los identificadores ordenados por relevancia; una sola consulta trae sus datos
+        List<Long> ids = postSearchIndex.search(query, clampPageSize(size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummaryDTO> byId = new HashMap<>();
+        for (PostSummaryDTO summary : postRepository.findSummariesByIds(ids)) {
+            byId.put(summary.getId(), summary);
+        }
+        // Una publicación borrada cuyo borrado aún no ha llegado al índice simplemente no aparece
+        List<PostSummaryDTO> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostSummaryDTO summary = byId.get(id);
+            if (summary != null) {
+                results.add(summary);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public SuggestionsDTO suggest(String prefix, int size) {
+        return suggestionIndex.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGESTIONS)));
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // Recorta la fila de más y, si existía, emite el cursor de la última fila de la página
+    private static CursorPageDTO<PostSummaryDTO> toCursorPage(List<PostSummaryDTO> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(rows, pageSize, null);
+        }
+        List<PostSummaryDTO> page = rows.subList(0, pageSize);
+        PostSummaryDTO last = page.get(pageSize - 1);
+        return new CursorPageDTO<>(page, pageSize, PostCursor.encode(last.getCreationDate(), last.getId()));
+    }
+
+    /**
+     * Posición (creation_date, post_id) de la última publicación de una página, codificada como
+     * token opaco en Base64 URL para que los clientes no dependan de su formato.
+     */
+    private static final class PostCursor {
+
+        private final LocalDateTime creationDate;
+        private final Long id;
+
+        private PostCursor(LocalDateTime creationDate, Long id) {
+            this.creationDate = creationDate;
+            this.id = id;
+        }
+
+        private static String encode(LocalDateTime creationDate, Long id) {
+            String raw = creationDate + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static PostCursor decode(String cursor) {
+            String raw;
+            try {
+                raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidCursorException("Cursor de paginación no válido");
+            }
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException("Cursor de paginación no válido");
+            }
+            try {
+                return new PostCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidCursorException("Cursor de paginación no válido");
+            }
+        }
     }
 }
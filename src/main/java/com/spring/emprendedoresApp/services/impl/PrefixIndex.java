@@ -0,0 +1,427 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.spring.emprendedoresApp.models.dtos.SuggestionDTO;
+
+/**
+ * Árbol de prefijos comprimido (radix trie) en memoria para el autocompletado, con las
+ * {@code limit} mejores terminaciones de un prefijo por recencia.
+ *
+ * La clave de cada texto es su versión en minúsculas, sin tildes y con los espacios colapsados,
+ * así que "cafe org" completa "Café  Orgánico". Cada arista guarda un tramo de caracteres (los
+ * nodos con un solo hijo se fusionan) y cada nodo la mayor fecha de su subárbol: la consulta
+ * recorre el árbol de mejor a peor candidato y se detiene al reunir las sugerencias pedidas, sin
+ * visitar el resto de entradas del prefijo. Las consultas comparten un cerrojo de lectura; las
+ * escrituras lo toman en exclusiva.
+ */
+public class PrefixIndex {
+
+    // Estimación de memoria para una JVM de 64 bits con referencias comprimidas
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    // A igual fecha, los nodos se expanden antes de devolver entradas, y entre entradas gana el identificador mayor
+    private static final Comparator<Ranked> BEST_FIRST = (a, b) -> {
+        if (a.weight != b.weight) {
+            return a.weight > b.weight ? -1 : 1;
+        }
+        boolean aIsEntry = a instanceof Entry;
+        if (aIsEntry != b instanceof Entry) {
+            return aIsEntry ? 1 : -1;
+        }
+        return aIsEntry ? Long.compare(((Entry) b).id, ((Entry) a).id) : 0;
+    };
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node(new char[0]);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /**
+     * Añade (o sustituye) el texto de un identificador; un texto vacío o nulo lo quita.
+     */
+    public void put(long id, String text, LocalDateTime date) {
+        String key = key(text);
+        long weight = date == null ? 0 : date.toEpochSecond(ZoneOffset.UTC);
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                detach(previous);
+            }
+            if (key.isEmpty()) {
+                return;
+            }
+            Entry entry = new Entry(id, text, weight);
+            entries.put(id, entry);
+            attach(key, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                detach(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Textos que empiezan por el prefijo, del más reciente al más antiguo.
+     */
+    public List<SuggestionDTO> complete(String prefix, int limit) {
+        String key = key(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // "cafe " solo completa textos con la palabra "cafe" entera
+        if (Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            key += ' ';
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                int slot = node.childSlot(key.charAt(position));
+                if (slot < 0) {
+                    return List.of();
+                }
+                Node child = node.children[slot];
+                int common = commonPrefix(child.label, key, position);
+                if (position + common == key.length()) {
+                    // El prefijo termina en este nodo o a mitad de su arista: todo su subárbol coincide
+                    node = child;
+                    break;
+                }
+                if (common < child.label.length) {
+                    return List.of();
+                }
+                node = child;
+                position += common;
+            }
+
+            List<SuggestionDTO> suggestions = new ArrayList<>(Math.min(limit, 16));
+            PriorityQueue<Ranked> candidates = new PriorityQueue<>(BEST_FIRST);
+            candidates.add(node);
+            while (!candidates.isEmpty() && suggestions.size() < limit) {
+                Ranked next = candidates.poll();
+                if (next instanceof Entry entry) {
+                    suggestions.add(entry.toSuggestion());
+                    continue;
+                }
+                Node expanded = (Node) next;
+                if (expanded.entries != null) {
+                    // Ya ordenadas: las que no caben en lo que falta por reunir nunca llegarían al resultado
+                    int wanted = Math.min(expanded.entries.length, limit - suggestions.size());
+                    for (int i = 0; i < wanted; i++) {
+                        candidates.add(expanded.entries[i]);
+                    }
+                }
+                for (Node child : expanded.children) {
+                    candidates.add(child);
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Entradas, nodos y memoria estimada (árbol, entradas con su texto y mapa por identificador).
+     */
+    public Map<String, Object> describe() {
+        lock.readLock().lock();
+        try {
+            long[] totals = new long[2]; // nodos, bytes
+            measure(root, totals);
+            long bytes = totals[1];
+            for (Entry entry : entries.values()) {
+                bytes += align(OBJECT_HEADER + 8 + 8 + REFERENCE) + stringBytes(entry.text)
+                        // Nodo del HashMap, Long de la clave y su hueco en la tabla
+                        + align(OBJECT_HEADER + 4 + 3 * REFERENCE) + align(OBJECT_HEADER + 8) + 2L * REFERENCE;
+            }
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("entries", entries.size());
+            description.put("nodes", totals[0]);
+            description.put("estimatedBytes", bytes);
+            description.put("bytesPerEntry", entries.isEmpty() ? 0 : bytes / entries.size());
+            return description;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Minúsculas, sin tildes y con un solo espacio entre palabras
+    static String key(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = SearchAnalyzer.fold(text);
+        StringBuilder key = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (key.length() > 0 && key.charAt(key.length() - 1) != ' ') {
+                    key.append(' ');
+                }
+            } else {
+                key.append(c);
+            }
+        }
+        int end = key.length();
+        if (end > 0 && key.charAt(end - 1) == ' ') {
+            key.setLength(end - 1);
+        }
+        return key.toString();
+    }
+
+    private void attach(String key, Entry entry) {
+        Node node = root;
+        node.weight = Math.max(node.weight, entry.weight);
+        int position = 0;
+        while (position < key.length()) {
+            int slot = node.childSlot(key.charAt(position));
+            if (slot < 0) {
+                Node leaf = new Node(key.substring(position).toCharArray());
+                leaf.addEntry(entry);
+                node.insertChild(-slot - 1, leaf);
+                return;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, position);
+            if (common < child.label.length) {
+                // La clave se separa a mitad de la arista: un nodo intermedio con el tramo común
+                Node middle = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                middle.children = new Node[] { child };
+                middle.weight = child.weight;
+                node.children[slot] = middle;
+                child = middle;
+            }
+            child.weight = Math.max(child.weight, entry.weight);
+            node = child;
+            position += common;
+        }
+        node.addEntry(entry);
+    }
+
+    // Quita la entrada, poda los nodos vacíos, fusiona los que quedan con un solo hijo y recalcula las fechas del camino
+    private void detach(Entry entry) {
+        String key = key(entry.text);
+        Node[] path = new Node[key.length() + 1];
+        int depth = 0;
+        Node node = root;
+        path[depth++] = node;
+        int position = 0;
+        while (position < key.length()) {
+            int slot = node.childSlot(key.charAt(position));
+            if (slot < 0) {
+                return;
+            }
+            node = node.children[slot];
+            path[depth++] = node;
+            position += node.label.length;
+        }
+        node.removeEntry(entry);
+
+        for (int level = depth - 1; level >= 1; level--) {
+            Node current = path[level];
+            Node parent = path[level - 1];
+            if (current.entries == null && current.children.length == 0) {
+                parent.removeChild(current);
+            } else if (current.entries == null && current.children.length == 1) {
+                Node only = current.children[0];
+                char[] merged = Arrays.copyOf(current.label, current.label.length + only.label.length);
+                System.arraycopy(only.label, 0, merged, current.label.length, only.label.length);
+                only.label = merged;
+                parent.children[parent.childSlot(merged[0])] = only;
+            } else {
+                current.recomputeWeight();
+            }
+        }
+        root.recomputeWeight();
+    }
+
+    private static int commonPrefix(char[] label, String key, int from) {
+        int max = Math.min(label.length, key.length() - from);
+        int common = 0;
+        while (common < max && label[common] == key.charAt(from + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static void measure(Node node, long[] totals) {
+        totals[0]++;
+        totals[1] += align(OBJECT_HEADER + 8 + 3 * REFERENCE)
+                + align(ARRAY_HEADER + 2L * node.label.length)
+                + align(ARRAY_HEADER + (long) REFERENCE * node.children.length)
+                + (node.entries == null ? 0 : align(ARRAY_HEADER + (long) REFERENCE * node.entries.length));
+        for (Node child : node.children) {
+            measure(child, totals);
+        }
+    }
+
+    // Con las cadenas compactas de Java, un texto en Latin-1 (el español lo es) ocupa un byte por carácter
+    private static long stringBytes(String text) {
+        boolean latin1 = text.chars().allMatch(c -> c < 256);
+        return align(OBJECT_HEADER + 4 + 4 + 1 + 1 + REFERENCE) + align(ARRAY_HEADER + (long) text.length() * (latin1 ? 1 : 2));
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private abstract static class Ranked {
+
+        // Entrada: su fecha (segundos UTC). Nodo: la mayor fecha de su subárbol
+        long weight;
+    }
+
+    private static final class Entry extends Ranked {
+
+        private final long id;
+        private final String text;
+
+        private Entry(long id, String text, long weight) {
+            this.id = id;
+            this.text = text;
+            this.weight = weight;
+        }
+
+        private SuggestionDTO toSuggestion() {
+            return new SuggestionDTO(id, text, LocalDateTime.ofEpochSecond(weight, 0, ZoneOffset.UTC));
+        }
+    }
+
+    private static final class Node extends Ranked {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] label;
+        // Ordenados por el primer carácter de su arista
+        private Node[] children = NO_CHILDREN;
+        // Textos cuya clave termina en este nodo (varios si se repiten), del más reciente al más
+        // antiguo; null si ninguno
+        private Entry[] entries;
+
+        private Node(char[] label) {
+            this.label = label;
+            this.weight = Long.MIN_VALUE;
+        }
+
+        private int childSlot(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char c = children[middle].label[0];
+                if (c < first) {
+                    low = middle + 1;
+                } else if (c > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int slot, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, slot);
+            grown[slot] = child;
+            System.arraycopy(children, slot, grown, slot + 1, children.length - slot);
+            children = grown;
+            weight = Math.max(weight, child.weight);
+        }
+
+        private void removeChild(Node child) {
+            int slot = childSlot(child.label[0]);
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, slot);
+            System.arraycopy(children, slot + 1, shrunk, slot, children.length - slot - 1);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        private void addEntry(Entry entry) {
+            if (entries == null) {
+                entries = new Entry[] { entry };
+            } else {
+                int slot = 0;
+                while (slot < entries.length && BEST_FIRST.compare(entries[slot], entry) < 0) {
+                    slot++;
+                }
+                Entry[] grown = new Entry[entries.length + 1];
+                System.arraycopy(entries, 0, grown, 0, slot);
+                grown[slot] = entry;
+                System.arraycopy(entries, slot, grown, slot + 1, entries.length - slot);
+                entries = grown;
+            }
+            weight = Math.max(weight, entry.weight);
+        }
+
+        private void removeEntry(Entry entry) {
+            if (entries == null) {
+                return;
+            }
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i] == entry) {
+                    if (entries.length == 1) {
+                        entries = null;
+                    } else {
+                        Entry[] shrunk = new Entry[entries.length - 1];
+                        System.arraycopy(entries, 0, shrunk, 0, i);
+                        System.arraycopy(entries, i + 1, shrunk, i, entries.length - i - 1);
+                        entries = shrunk;
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void recomputeWeight() {
+            long best = Long.MIN_VALUE;
+            if (entries != null) {
+                for (Entry entry : entries) {
+                    best = Math.max(best, entry.weight);
+                }
+            }
+            for (Node child : children) {
+                best = Math.max(best, child.weight);
+            }
+            weight = best;
+        }
+    }
+}
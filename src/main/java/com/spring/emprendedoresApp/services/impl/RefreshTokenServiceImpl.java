@@ -0,0 +1,118 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spring.emprendedoresApp.persistence.entities.RefreshTokenEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.RefreshTokenRepository;
+import com.spring.emprendedoresApp.services.IRefreshTokenService;
+
+@Service
+public class RefreshTokenServiceImpl implements IRefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    // Vida de cada refresh token; cada rotación emite uno nuevo con la vida completa
+    @Value("${jwt.refreshTokenTtlSeconds:1209600}")
+    private long refreshTokenTtlSeconds;
+
+    @Override
+    @Transactional
+    public String issueRefreshToken(UserEntity user, String familyId) {
+        // 256 bits aleatorios; el valor no contiene información y solo se guarda su hash
+        byte[] random = new byte[32];
+        secureRandom.nextBytes(random);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setTokenHash(hash(refreshToken));
+        entity.setFamilyId(familyId != null ? familyId : UUID.randomUUID().toString());
+        entity.setUser(user);
+        entity.setIssuedAt(now);
+        entity.setExpiresAt(now.plusSeconds(refreshTokenTtlSeconds));
+        refreshTokenRepository.save(entity);
+
+        return refreshToken;
+    }
+
+    @Override
+    @Transactional
+    public Optional<RefreshTokenEntity> consumeRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Optional.empty();
+        }
+
+        RefreshTokenEntity stored = refreshTokenRepository.findByTokenHash(hash(refreshToken)).orElse(null);
+        // Un usuario borrado (pendiente de purga) ya no puede renovar la sesión
+        if (stored == null || stored.isRevoked() || stored.getUser().getDeletedAt() != null) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // Un token ya canjeado que vuelve a aparecer indica robo: se revoca toda la familia
+        if (stored.getUsedAt() != null) {
+            revokeFamily(stored);
+            return Optional.empty();
+        }
+
+        if (stored.getExpiresAt().isBefore(now)) {
+            return Optional.empty();
+        }
+
+        // Canje atómico: si dos peticiones presentan el mismo token a la vez, solo una lo consigue
+        if (refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            revokeFamily(stored);
+            return Optional.empty();
+        }
+
+        return Optional.of(stored);
+    }
+
+    // Limpieza periódica de los tokens caducados para que la tabla no crezca sin límite
+    @Scheduled(cron = "${jwt.refreshTokenCleanupCron:0 0 * * * *}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Eliminados {} refresh tokens caducados", deleted);
+        }
+    }
+
+    private void revokeFamily(RefreshTokenEntity stored) {
+        refreshTokenRepository.revokeFamily(stored.getFamilyId());
+        log.warn("Reutilización de refresh token detectada para el usuario {}; familia {} revocada",
+                stored.getUser().getId(), stored.getFamilyId());
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity.RoleName;
+import com.spring.emprendedoresApp.persistence.repositories.RoleRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Roles cargados una sola vez al arrancar: crea en la base de datos los que falten y después
+ * resuelve nombres de rol sin consultas ni asignaciones de memoria.
+ *
+ * Las entidades guardadas están desconectadas de cualquier sesión y se comparten entre hilos,
+ * así que no deben modificarse; para asignar el rol a un usuario se usa {@link #reference}.
+ */
+@Component
+public class RoleRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleRegistry.class);
+
+    // Copia única de RoleName.values(), que crea un array nuevo en cada llamada
+    private static final RoleName[] ROLE_NAMES = RoleName.values();
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Se rellena en init() y no cambia después
+    private final EnumMap<RoleName, RoleEntity> roles = new EnumMap<>(RoleName.class);
+
+    @PostConstruct
+    public void init() {
+        for (RoleEntity role : roleRepository.findAll()) {
+            roles.putIfAbsent(role.getRoleName(), role);
+        }
+
+        List<RoleEntity> missing = new ArrayList<>();
+        for (RoleName roleName : ROLE_NAMES) {
+            if (!roles.containsKey(roleName)) {
+                RoleEntity role = new RoleEntity();
+                role.setRoleName(roleName);
+                missing.add(role);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (RoleEntity role : roleRepository.saveAll(missing)) {
+                roles.put(role.getRoleName(), role);
+            }
+            log.info("Roles creados al arrancar: {}", missing.stream().map(RoleEntity::getRoleName).toList());
+        }
+    }
+
+    /**
+     * Convierte un nombre de rol recibido en la petición (sin distinguir mayúsculas) en su
+     * RoleName, o devuelve null si no corresponde a ningún rol.
+     */
+    public RoleName parse(String roleName) {
+        if (roleName == null) {
+            return null;
+        }
+        for (RoleName candidate : ROLE_NAMES) {
+            if (candidate.name().equalsIgnoreCase(roleName)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rol precargado (entidad desconectada, de solo lectura).
+     */
+    public RoleEntity get(RoleName roleName) {
+        return roles.get(roleName);
+    }
+
+    /**
+     * Referencia al rol por su id para asignarla a {@code UserEntity.role}: dentro de una
+     * transacción queda asociada a su contexto de persistencia y nunca se carga de la base de
+     * datos; solo aporta la clave foránea al guardar el usuario.
+     */
+    public RoleEntity reference(RoleName roleName) {
+        return entityManager.getReference(RoleEntity.class, roles.get(roleName).getId());
+    }
+}
@@ -15,20 +15,20 @@ public class RoleServiceImpl implements IRoleService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RoleRegistry roleRegistry;
+
     // Método para obtener usuarios por su rol
     @Override
     public List<UserEntity> getUsersByRole(String roleName) {
         // Convertir el String recibido como parámetro en un valor de tipo RoleName (Enum)
-        RoleEntity.RoleName roleEnum;
-        try {
-            // Intentamos convertir el String al Enum correspondiente
-            roleEnum = RoleEntity.RoleName.valueOf(roleName.toUpperCase());
-        } catch (IllegalArgumentException e) {
+        RoleEntity.RoleName roleEnum = roleRegistry.parse(roleName);
+        if (roleEnum == null) {
             // Si el String no corresponde a un valor válido en el Enum, lanzamos una excepción
             throw new IllegalArgumentException("Invalid role name: " + roleName);
         }
 
-        // Llamamos al repositorio para buscar los usuarios que tienen el rol especificado
-        return userRepository.findByRole_RoleName(roleEnum);
+        // Llamamos al repositorio para buscar los usuarios por el id del rol, sin JOIN con roles
+        return userRepository.findByRole(roleRegistry.reference(roleEnum));
     }
 }
@@ -0,0 +1,69 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Convierte un texto en los términos del índice de búsqueda: separa por cualquier carácter que
+ * no sea letra o dígito, pasa a minúsculas, quita tildes y diéresis ("Educación" y "educacion"
+ * son el mismo término, "ñ" se indexa como "n") y descarta las palabras vacías del español.
+ * Se aplica igual a los documentos y a las consultas.
+ */
+final class SearchAnalyzer {
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 40;
+
+    // Palabras vacías más frecuentes del español, ya sin tildes
+    private static final Set<String> STOP_WORDS = Set.of(
+            "al", "algo", "ante", "como", "con", "contra", "cual", "cuando", "de", "del", "desde", "donde",
+            "el", "ella", "ellos", "en", "entre", "era", "es", "esa", "ese", "esta", "este", "esto", "fue",
+            "ha", "han", "hay", "la", "las", "le", "les", "lo", "los", "mas", "me", "mi", "muy", "ni", "no",
+            "nos", "o", "os", "para", "pero", "por", "porque", "que", "se", "sea", "ser", "si", "sin", "sobre",
+            "son", "su", "sus", "te", "tu", "un", "una", "uno", "unos", "unas", "y", "ya", "yo");
+
+    private SearchAnalyzer() {
+    }
+
+    static List<String> terms(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String folded = fold(text);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            if (i < folded.length() && Character.isLetterOrDigit(folded.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                int length = i - start;
+                if (length >= MIN_TERM_LENGTH && length <= MAX_TERM_LENGTH) {
+                    String term = folded.substring(start, i);
+                    if (!STOP_WORDS.contains(term)) {
+                        terms.add(term);
+                    }
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // Minúsculas y sin marcas diacríticas (la forma NFD separa "á" en "a" + acento)
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,222 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.RefreshTokenRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Purga periódicamente las publicaciones y usuarios marcados como borrados (deleted_at) junto con
+ * lo que cuelga de ellos, que antes se borraba en cascada dentro de la propia petición.
+ *
+ * Todo se hace con DELETE/UPDATE por lotes de identificadores ({@code softDelete.batchSize}), cada
+ * lote en su propia transacción, así que ninguna transacción bloquea más filas que las de su lote:
+ * <ol>
+ * <li>las publicaciones aún activas de usuarios borrados se marcan como borradas;</li>
+ * <li>de cada publicación borrada se eliminan sus comentarios y después la fila;</li>
+ * <li>de cada usuario borrado se eliminan sus comentarios en publicaciones ajenas (descontándolos
+ * de su contador), sus refresh tokens y después la fila.</li>
+ * </ol>
+ */
+@Component
+public class SoftDeleteReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(SoftDeleteReaper.class);
+
+    // Filas (publicaciones, comentarios o usuarios) por transacción
+    @Value("${softDelete.batchSize:500}")
+    private int batchSize;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter purgedPostsCounter;
+    private Counter purgedCommentsCounter;
+    private Counter purgedUsersCounter;
+
+    // Resultado de la última ejecución, para el panel de administración
+    private volatile long lastRunAt;
+    private volatile Map<String, Integer> lastPurged = Map.of();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        purgedPostsCounter = Counter.builder("softdelete.purged.posts")
+                .description("Publicaciones borradas eliminadas definitivamente")
+                .register(meterRegistry);
+        purgedCommentsCounter = Counter.builder("softdelete.purged.comments")
+                .description("Comentarios eliminados al purgar publicaciones o usuarios borrados")
+                .register(meterRegistry);
+        purgedUsersCounter = Counter.builder("softdelete.purged.users")
+                .description("Usuarios borrados eliminados definitivamente")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${softDelete.reapIntervalMs:60000}", initialDelayString = "${softDelete.reapIntervalMs:60000}")
+    public void scheduledReap() {
+        try {
+            reap();
+        } catch (RuntimeException e) {
+            log.error("Falló la purga de publicaciones y usuarios borrados", e);
+        }
+    }
+
+    /**
+     * Purga todo lo borrado hasta ahora y devuelve cuántas publicaciones, comentarios y usuarios ha
+     * eliminado. Si un lote falla (p. ej. por un comentario creado a la vez), su transacción se
+     * deshace y se reintenta en la siguiente ejecución.
+     */
+    public synchronized Map<String, Integer> reap() {
+        int[] purged = new int[3];
+        purgePosts(purged);
+
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findDeletedIds(Limit.of(batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            softDeletePostsOf(userIds);
+            purgePosts(purged);
+            purged[1] += purgeCommentsOf(userIds);
+            List<Long> batch = userIds;
+            int users = transactionTemplate.execute(status -> {
+                refreshTokenRepository.deleteByUserIds(batch);
+                return userRepository.purgeByIds(batch);
+            });
+            purged[2] += users;
+            // Alguno sigue teniendo publicaciones (creadas mientras se purgaba): queda para la siguiente ejecución
+            if (users < userIds.size()) {
+                break;
+            }
+        } while (userIds.size() == batchSize);
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("posts", purged[0]);
+        result.put("comments", purged[1]);
+        result.put("users", purged[2]);
+        if (purged[0] + purged[1] + purged[2] > 0) {
+            log.info("Purga de borrados: {}", result);
+        }
+        purgedPostsCounter.increment(purged[0]);
+        purgedCommentsCounter.increment(purged[1]);
+        purgedUsersCounter.increment(purged[2]);
+        lastPurged = result;
+        lastRunAt = System.currentTimeMillis();
+        return result;
+    }
+
+    /**
+     * Borrados pendientes de purgar y resultado de la última ejecución.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("pendingPosts", postRepository.countByDeletedAtIsNotNull());
+        description.put("pendingUsers", userRepository.countByDeletedAtIsNotNull());
+        description.put("lastRunAt", lastRunAt == 0 ? null : lastRunAt);
+        description.put("lastPurged", lastPurged);
+        return description;
+    }
+
+    // Las publicaciones de un usuario borrado dejan de verse con él; se quitan de los índices tras el commit
+    private void softDeletePostsOf(List<Long> userIds) {
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findActiveIdsByAuthorIds(userIds, Limit.of(batchSize));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = postIds;
+            transactionTemplate.executeWithoutResult(status -> {
+                postRepository.softDeleteByIds(batch, LocalDateTime.now());
+                batch.forEach(postId -> {
+                    postSearchIndex.remove(postId);
+                    suggestionIndex.removePost(postId);
+                });
+            });
+        } while (postIds.size() == batchSize);
+    }
+
+    // Comentarios primero (la clave foránea lo exige) y después las publicaciones, lote a lote
+    private void purgePosts(int[] purged) {
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findDeletedIds(Limit.of(batchSize));
+            if (postIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = postIds;
+            List<Long> commentIds;
+            do {
+                commentIds = commentRepository.findIdsByPostIds(batch, Limit.of(batchSize));
+                if (commentIds.isEmpty()) {
+                    break;
+                }
+                List<Long> comments = commentIds;
+                purged[1] += transactionTemplate.execute(status -> commentRepository.purgeByIds(comments));
+            } while (commentIds.size() == batchSize);
+            purged[0] += transactionTemplate.execute(status -> postRepository.purgeByIds(batch));
+        } while (postIds.size() == batchSize);
+    }
+
+    // Comentarios de los usuarios en publicaciones ajenas: se descuentan del contador en la misma transacción
+    private int purgeCommentsOf(List<Long> userIds) {
+        int purged = 0;
+        List<Long> commentIds;
+        do {
+            commentIds = commentRepository.findIdsByUserIds(userIds, Limit.of(batchSize));
+            if (commentIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = commentIds;
+            purged += transactionTemplate.execute(status -> {
+                for (Object[] row : commentRepository.countByPostForIds(batch)) {
+                    postRepository.addToCommentCount((Long) row[0], -((Number) row[1]).intValue());
+                }
+                return commentRepository.purgeByIds(batch);
+            });
+        } while (commentIds.size() == batchSize);
+        return purged;
+    }
+}
@@ -0,0 +1,175 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.emprendedoresApp.models.dtos.SuggestionDTO;
+import com.spring.emprendedoresApp.models.dtos.SuggestionsDTO;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Autocompletado de títulos de publicaciones publicadas (PUBLISHED) y de nombres de usuario, con
+ * un {@link PrefixIndex} para cada uno. Se carga de la base de datos al arrancar (solo título o
+ * nombre, identificador y fecha) y sigue cada alta, cambio y baja tras el commit de su transacción;
+ * no se guarda en disco.
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile PrefixIndex posts = new PrefixIndex();
+    private volatile PrefixIndex users = new PrefixIndex();
+
+    // Operaciones que llegan mientras se reconstruye (null = no hay reconstrucción en curso)
+    private List<BiConsumer<PrefixIndex, PrefixIndex>> pendingDuringRebuild;
+
+    // Una sola reconstrucción a la vez
+    private final Object rebuildLock = new Object();
+
+    private volatile long lastRebuildAt;
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * Publicaciones y usuarios que empiezan por el prefijo, los más recientes primero.
+     */
+    public SuggestionsDTO suggest(String prefix, int limit) {
+        return new SuggestionsDTO(posts.complete(prefix, limit), users.complete(prefix, limit));
+    }
+
+    /**
+     * Añade o actualiza la publicación si está publicada y la quita si no, al confirmar la transacción.
+     */
+    public void post(PostEntity post) {
+        Long id = post.getId();
+        String title = post.getTitle();
+        LocalDateTime creationDate = post.getCreationDate();
+        boolean published = post.getPostType() == PostEntity.PostType.PUBLISHED;
+        afterCommit((postIndex, userIndex) -> {
+            if (published) {
+                postIndex.put(id, title, creationDate);
+            } else {
+                postIndex.remove(id);
+            }
+        });
+    }
+
+    public void removePost(Long postId) {
+        afterCommit((postIndex, userIndex) -> postIndex.remove(postId));
+    }
+
+    public void user(UserEntity user) {
+        Long id = user.getId();
+        String username = user.getUsername();
+        LocalDateTime registrationDate = user.getRegistrationDate();
+        afterCommit((postIndex, userIndex) -> userIndex.put(id, username, registrationDate));
+    }
+
+    public void removeUser(Long userId) {
+        afterCommit((postIndex, userIndex) -> userIndex.remove(userId));
+    }
+
+    /**
+     * Vuelve a cargar ambos índices de la base de datos. Las consultas siguen usando los anteriores
+     * hasta que termina.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            PrefixIndex rebuiltPosts = new PrefixIndex();
+            PrefixIndex rebuiltUsers = new PrefixIndex();
+            synchronized (this) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                readOnly.setReadOnly(true);
+                readOnly.executeWithoutResult(status -> {
+                    try (Stream<SuggestionDTO> rows = postRepository.streamPublishedSuggestions()) {
+                        rows.forEach(row -> rebuiltPosts.put(row.getId(), row.getText(), row.getDate()));
+                    }
+                    try (Stream<SuggestionDTO> rows = userRepository.streamSuggestions()) {
+                        rows.forEach(row -> rebuiltUsers.put(row.getId(), row.getText(), row.getDate()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                // Lo modificado durante la lectura se reaplica encima: cada operación deja el estado final de su entrada
+                pendingDuringRebuild.forEach(operation -> operation.accept(rebuiltPosts, rebuiltUsers));
+                pendingDuringRebuild = null;
+                posts = rebuiltPosts;
+                users = rebuiltUsers;
+                lastRebuildAt = System.currentTimeMillis();
+            }
+            log.info("Índice de autocompletado cargado: {} publicaciones y {} usuarios", rebuiltPosts.size(), rebuiltUsers.size());
+        }
+    }
+
+    /**
+     * Entradas y memoria estimada de cada índice, para el panel de administración.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("posts", posts.describe());
+        description.put("users", users.describe());
+        description.put("lastRebuildAt", lastRebuildAt == 0 ? null : lastRebuildAt);
+        return description;
+    }
+
+    // Dentro de una transacción, la operación espera al commit (y se descarta con el rollback)
+    private void afterCommit(BiConsumer<PrefixIndex, PrefixIndex> operation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(operation);
+                }
+            });
+        } else {
+            apply(operation);
+        }
+    }
+
+    private synchronized void apply(BiConsumer<PrefixIndex, PrefixIndex> operation) {
+        operation.accept(posts, users);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(operation);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
+import com.spring.emprendedoresApp.models.validation.UserValidation;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IPasswordHashingService;
+
+/**
+ * Alta de usuarios común a /auth/register y /api/users/register/{roleName}.
+ *
+ * No comprueba antes si el correo o el nombre de usuario ya existen: hace un único INSERT y
+ * deja que lo rechacen las restricciones únicas uk_users_email y uk_users_username, cuya
+ * violación se traduce a la misma respuesta de error de siempre. Así un alta correcta cuesta
+ * una sola ida y vuelta a la base de datos y dos altas simultáneas con el mismo correo no
+ * pueden crear dos usuarios.
+ *
+ * Debe llamarse fuera de una transacción: el INSERT fallido anula la transacción en la que se ejecuta.
+ */
+@Component
+public class UserRegistration {
+
+    private static final String EMAIL_CONSTRAINT = "uk_users_email";
+    private static final String USERNAME_CONSTRAINT = "uk_users_username";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserValidation userValidation;
+
+    @Autowired
+    private IPasswordHashingService passwordHashingService;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    public ResponseDTO register(UserEntity user, String roleName) throws Exception {
+        ResponseDTO response = userValidation.validate(user);
+        if (response.getNumOfError() > 0) {
+            return response;
+        }
+
+        // Validar y asignar el rol recibido (los roles están precargados, sin consulta)
+        RoleEntity.RoleName roleEnum = roleRegistry.parse(roleName);
+        if (roleEnum == null) {
+            return error(response, "Rol no válido: " + roleName);
+        }
+        user.setRole(roleRegistry.reference(roleEnum));
+
+        // Encriptar la contraseña (en el pool dedicado de hashing)
+        user.setPassword(passwordHashingService.hash(user.getPassword()));
+
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            return duplicated(response, user, e);
+        }
+        suggestionIndex.user(user);
+
+        response.setMessage("Usuario creado exitosamente!");
+        return response;
+    }
+
+    // Traduce la restricción única violada al mensaje que ve el cliente
+    private ResponseDTO duplicated(ResponseDTO response, UserEntity user, DataIntegrityViolationException e) {
+        String constraint = constraintName(e);
+        if (constraint.contains(EMAIL_CONSTRAINT)) {
+            return error(response, "El correo ya está registrado!");
+        }
+        if (constraint.contains(USERNAME_CONSTRAINT)) {
+            return error(response, "El nombre de usuario ya está registrado!");
+        }
+        // Restricción con otro nombre (p. ej. la de email en una base de datos creada por Hibernate
+        // antes de Flyway): solo en este caso se consulta cuál de los dos valores está repetido
+        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
+            return error(response, "El correo ya está registrado!");
+        }
+        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
+            return error(response, "El nombre de usuario ya está registrado!");
+        }
+        throw e;
+    }
+
+    private static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return "";
+    }
+
+    private static ResponseDTO error(ResponseDTO response, String message) {
+        response.setNumOfError(1);
+        response.setMessage(message);
+        return response;
+    }
+}
@@ -1,19 +1,20 @@
 package com.spring.emprendedoresApp.services.impl;
 
 import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
-import com.spring.emprendedoresApp.models.validation.UserValidation;
-import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
 import com.spring.emprendedoresApp.persistence.entities.UserEntity;
-import com.spring.emprendedoresApp.persistence.repositories.RoleRepository;
 import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IPasswordHashingService;
 import com.spring.emprendedoresApp.services.IUserService;
+import com.spring.emprendedoresApp.services.PasswordHashingBusyException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,66 +25,25 @@ public class UserServiceImpl implements IUserService {
 	private UserRepository userRepository;
 
 	@Autowired
-	private RoleRepository roleRepository;
-	
+	private UserRegistration userRegistration;
+
+    @Autowired
+    private IPasswordHashingService passwordHashingService;
+
     @Autowired
-    private UserValidation userValidation;
+    private ListingCountCache listingCountCache;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
 
 	@Override
 	public ResponseDTO createUser(UserEntity user, String roleName) throws Exception {
+		// Validación, rol, hash e INSERT único; los duplicados los detectan las restricciones únicas
 		try {
-			ResponseDTO response = userValidation.validate(user);
-
-			if (response.getNumOfError() > 0) {
-				return response;
-			}
-
-			// Validación de usuarios duplicados por email
-			Optional<UserEntity> existingUser = userRepository.findByEmail(user.getEmail());
-			if (existingUser.isPresent()) {
-				response.setNumOfError(1);
-				response.setMessage("El correo ya está registrado!");
-				return response;
-			}
-
-			// Validación de usuarios duplicados por username (si es necesario)
-			Optional<UserEntity> existingUsername = userRepository.findByUsername(user.getUsername());
-			if (existingUsername.isPresent()) {
-				response.setNumOfError(1);
-				response.setMessage("El nombre de usuario ya está registrado!");
-				return response;
-			}
-
-			// Validar y asignar el rol recibido en la URL
-			RoleEntity.RoleName roleEnum;
-			try {
-				roleEnum = RoleEntity.RoleName.valueOf(roleName.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				response.setNumOfError(1);
-				response.setMessage("Rol no válido: " + roleName);
-				return response;
-			}
-
-			// Buscar el rol correspondiente en la base de datos
-			RoleEntity role = roleRepository.findByRoleName(roleEnum);
-			if (role == null) {
-				response.setNumOfError(1);
-				response.setMessage("Rol no encontrado en la base de datos");
-				return response;
-			}
-
-			user.setRole(role);
-
-			// Encriptar la contraseña
-			BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
-			user.setPassword(encoder.encode(user.getPassword()));
-
-			// Guardar el usuario con el rol asignado
-			userRepository.save(user);
-
-			response.setMessage("Usuario creado exitosamente!");
-			return response;
-
+			return userRegistration.register(user, roleName);
+		} catch (PasswordHashingBusyException e) {
+			// Se propaga tal cual para responder 503 en lugar de 500
+			throw e;
 		} catch (Exception e) {
 			throw new Exception(e.toString());
 		}
@@ -92,7 +52,7 @@ public class UserServiceImpl implements IUserService {
 	// Método para obtener todos los usuarios
 	@Override
 	public List<UserEntity> getAllUsers() {
-		return userRepository.findAll();
+		return userRepository.findAllActive();
 	}
 
 	// Método para obtener un usuario por su ID
@@ -101,7 +61,7 @@ public class UserServiceImpl implements IUserService {
 		if (id == null) {
 			throw new IllegalArgumentException("El ID del usuario no puede ser nulo");
 		}
-		return userRepository.findById(id);
+		return userRepository.findActiveById(id);
 	}
 
 	// Método para actualizar un usuario completamente (PUT)
@@ -110,9 +70,7 @@ public class UserServiceImpl implements IUserService {
 		if (id == null || updatedUser == null) {
 			throw new IllegalArgumentException("El ID del usuario y los datos a actualizar no pueden ser nulos");
 		}
-		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
-
-		UserEntity existingUser = userRepository.findById(id)
+		UserEntity existingUser = userRepository.findActiveById(id)
 				.orElseThrow(() -> new IllegalArgumentException("El usuario con el ID especificado no existe"));
 
 		// Actualizar los campos específicos si no son nulos
@@ -123,7 +81,7 @@ public class UserServiceImpl implements IUserService {
 			existingUser.setEmail(updatedUser.getEmail());
 		}
 		if (updatedUser.getPassword() != null) {
-			existingUser.setPassword(encoder.encode(updatedUser.getPassword())); // Encriptar la nueva contraseña
+			existingUser.setPassword(passwordHashingService.hash(updatedUser.getPassword())); // Encriptar la nueva contraseña
 		}
 		if (updatedUser.getPhone() != null) {
 			existingUser.setPhone(updatedUser.getPhone());
@@ -142,7 +100,9 @@ public class UserServiceImpl implements IUserService {
 		}
 
 		// Guardar el usuario actualizado
-		return userRepository.save(existingUser);
+		UserEntity saved = userRepository.save(existingUser);
+		suggestionIndex.user(saved);
+		return saved;
 	}
 
 	// Método para actualizar parcialmente un usuario (PATCH)
@@ -151,9 +111,7 @@ public class UserServiceImpl implements IUserService {
 		if (id == null || updatedUser == null) {
 			throw new IllegalArgumentException("El ID del usuario y los datos a actualizar no pueden ser nulos");
 		}
-		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
-
-		UserEntity existingUser = userRepository.findById(id)
+		UserEntity existingUser = userRepository.findActiveById(id)
 				.orElseThrow(() -> new IllegalArgumentException("El usuario con el ID especificado no existe"));
 
 		// Actualizar solo los campos no nulos
@@ -164,7 +122,7 @@ public class UserServiceImpl implements IUserService {
 			existingUser.setEmail(updatedUser.getEmail());
 		}
 		if (updatedUser.getPassword() != null) {
-			existingUser.setPassword(encoder.encode(updatedUser.getPassword())); // Encriptar la nueva contraseña
+			existingUser.setPassword(passwordHashingService.hash(updatedUser.getPassword())); // Encriptar la nueva contraseña
 		}
 		if (updatedUser.getPhone() != null) {
 			existingUser.setPhone(updatedUser.getPhone());
@@ -180,18 +138,22 @@ public class UserServiceImpl implements IUserService {
 		// No se realiza ninguna modificación en el userType en el método PATCH
 
 		// Guardar el usuario actualizado
-		return userRepository.save(existingUser);
+		UserEntity saved = userRepository.save(existingUser);
+		suggestionIndex.user(saved);
+		return saved;
 	}
 
-	// Método para eliminar un usuario
+	// Método para eliminar un usuario: borrado lógico (un UPDATE de una fila); sus publicaciones,
+	// comentarios y refresh tokens los purga después SoftDeleteReaper, por lotes
 	@Override
+	@Transactional
 	public boolean deleteUser(Long id) {
 		if (id == null) {
 			throw new IllegalArgumentException("El ID del usuario no puede ser nulo");
 		}
 
-		if (userRepository.existsById(id)) {
-			userRepository.deleteById(id);
+		if (userRepository.softDelete(id, LocalDateTime.now()) == 1) {
+			suggestionIndex.removeUser(id);
 			return true;
 		} else {
 			throw new IllegalArgumentException("El usuario con el ID especificado no existe");
@@ -201,8 +163,16 @@ public class UserServiceImpl implements IUserService {
 	// Método para obtener usuarios paginados
 	@Transactional(readOnly = true)
 	@Override
-	public Page<UserEntity> findAll(Pageable pageable) {
-		return userRepository.findAll(pageable);
+	public Slice<UserEntity> findAll(Pageable pageable) {
+		return userRepository.findAllBy(pageable);
+	}
+
+	// Método para obtener usuarios paginados con el total (de la caché, sin COUNT(*) por petición)
+	@Transactional(readOnly = true)
+	@Override
+	public Page<UserEntity> findAllWithTotal(Pageable pageable) {
+		Slice<UserEntity> slice = userRepository.findAllBy(pageable);
+		return new PageImpl<>(slice.getContent(), pageable, listingCountCache.countUsers());
 	}
 
 }
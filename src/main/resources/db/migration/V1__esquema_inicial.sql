@@ -0,0 +1,49 @@
+-- Esquema inicial: el mismo que generaba Hibernate con ddl-auto=create
+-- (las bases de datos creadas así se registran como esta versión sin ejecutarla)
+
+CREATE TABLE roles (
+    role_id BIGINT NOT NULL AUTO_INCREMENT,
+    role_name ENUM ('ROLE_ADMIN','ROLE_EDITOR','ROLE_USER') NOT NULL,
+    PRIMARY KEY (role_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE users (
+    user_id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    country VARCHAR(255) NOT NULL,
+    role_id BIGINT,
+    registration_date DATETIME DEFAULT CURRENT_TIMESTAMP,
+    user_type VARCHAR(255),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (role_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE posts (
+    post_id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    content VARCHAR(255) NOT NULL,
+    creation_date DATETIME DEFAULT CURRENT_TIMESTAMP,
+    validation_date DATETIME(6),
+    is_valido BIT NOT NULL,
+    post_status ENUM ('ADVICE','IDEAS','INVESTMENT','OTHERS','RESOURCES','STORIES') NOT NULL,
+    post_type ENUM ('PENDING','PUBLISHED','REJECTED'),
+    author_id BIGINT NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE comments (
+    comment_id BIGINT NOT NULL AUTO_INCREMENT,
+    text VARCHAR(255) NOT NULL,
+    user_id BIGINT,
+    post_id BIGINT,
+    creation_date DATETIME DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE=InnoDB;
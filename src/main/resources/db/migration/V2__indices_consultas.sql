@@ -0,0 +1,19 @@
+-- Índices para las consultas de los repositorios. Las columnas de ordenación van detrás
+-- de las de filtro para que el listado se lea ya ordenado, sin filesort.
+
+-- PostRepository: listados por estado (OFFSET y cursor) y recuento agrupado por estado
+CREATE INDEX idx_posts_status_created ON posts (post_status, creation_date, post_id);
+
+-- PostRepository: listados por autor (cursor); también sirve a la clave foránea author_id
+CREATE INDEX idx_posts_author_created ON posts (author_id, creation_date, post_id);
+
+-- CommentRepository.findByPostId, en orden de creación; también sirve a la clave foránea post_id
+CREATE INDEX idx_comments_post_created ON comments (post_id, creation_date);
+
+-- UserRepository.findByUsername (login): el nombre de usuario pasa a ser único.
+-- Si ya hay nombres duplicados esta migración falla y hay que resolverlos antes de desplegar.
+CREATE UNIQUE INDEX uk_users_username ON users (username);
+
+-- UserRepository.findByRole_RoleName: JOIN por role_id y búsqueda del rol por nombre
+CREATE INDEX idx_users_role ON users (role_id);
+CREATE INDEX idx_roles_name ON roles (role_name);
@@ -0,0 +1,13 @@
+-- Generador de identificadores por tabla (optimizador pooled, bloques de 50) para posts y comments.
+-- Cada fila arranca por encima del máximo actual más un bloque completo, de modo que ningún
+-- identificador generado coincide con uno existente. Las columnas AUTO_INCREMENT se mantienen
+-- para las filas insertadas fuera de Hibernate.
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'posts', COALESCE(MAX(post_id), 0) + 51 FROM posts;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(comment_id), 0) + 51 FROM comments;
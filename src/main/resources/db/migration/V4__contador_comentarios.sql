@@ -0,0 +1,7 @@
+-- Número de comentarios de cada publicación, desnormalizado para que los listados lo muestren
+-- sin leer la tabla comments. La aplicación lo mantiene con incrementos atómicos
+-- (comment_count = comment_count + n) y CommentCountReconciler corrige cualquier desvío.
+
+ALTER TABLE posts ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+UPDATE posts SET comment_count = (SELECT COUNT(*) FROM comments WHERE comments.post_id = posts.post_id);
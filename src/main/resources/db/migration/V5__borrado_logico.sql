@@ -0,0 +1,10 @@
+-- Borrado lógico de publicaciones y usuarios: borrar solo rellena deleted_at (una fila, un UPDATE)
+-- y los listados filtran deleted_at IS NULL. SoftDeleteReaper borra después, por lotes, los
+-- comentarios, publicaciones y refresh tokens dependientes y por último las propias filas.
+
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME NULL;
+ALTER TABLE users ADD COLUMN deleted_at DATETIME NULL;
+
+-- SoftDeleteReaper: filas pendientes de purgar (casi siempre ninguna, así que el índice es diminuto)
+CREATE INDEX idx_posts_deleted ON posts (deleted_at);
+CREATE INDEX idx_users_deleted ON users (deleted_at);
@@ -0,0 +1,21 @@
+-- Refresh tokens (uno por rotación; solo se guarda el SHA-256 del valor). La tabla no forma
+-- parte del esquema inicial: las bases de datos registradas como V1 sin ejecutarla no la tienen.
+-- IF NOT EXISTS por si ya la creó Hibernate (ddl-auto=update) antes de pasar a Flyway.
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    refresh_token_id BIGINT NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    issued_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used_at DATETIME(6),
+    revoked BIT NOT NULL,
+    PRIMARY KEY (refresh_token_id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB;
+
+-- RefreshTokenRepository: revocación por familia y purga de tokens caducados
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
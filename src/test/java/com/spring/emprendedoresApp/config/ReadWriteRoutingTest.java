@@ -0,0 +1,201 @@
+package com.spring.emprendedoresApp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Enrutado de lecturas y escrituras con tres bases de datos H2 en memoria (una principal y dos
+ * réplicas), cada una con una tabla que indica quién responde.
+ */
+class ReadWriteRoutingTest {
+
+    private DataSource primary;
+    private FailingDataSource replicaA;
+    private FailingDataSource replicaB;
+    private ReplicaDataSourcePool pool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replicaA = new FailingDataSource(database("replica-a"));
+        replicaB = new FailingDataSource(database("replica-b"));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", replicaA);
+        replicas.put("replica-b", replicaB);
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(60000);
+        pool = new ReplicaDataSourcePool(primary, replicas, tracker, "sa", "");
+
+        DataSource routing = ReadWriteRoutingConfig.routingDataSource(tracker.trackWrites(primary), pool);
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsAreSpreadAcrossReplicas() {
+        Set<String> servedBy = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            servedBy.add(readFromReplica());
+        }
+        assertThat(servedBy).containsExactlyInAnyOrder("replica-a", "replica-b");
+    }
+
+    @Test
+    void readWriteTransactionsGoToThePrimary() {
+        assertThat(readInWriteTransaction()).isEqualTo("primary");
+    }
+
+    @Test
+    void failedReplicaIsSkippedUntilHealthCheckRestoresIt() {
+        replicaA.down = true;
+        for (int i = 0; i < 4; i++) {
+            assertThat(readFromReplica()).isEqualTo("replica-b");
+        }
+
+        // Sin réplicas sanas, la lectura va a la principal en lugar de fallar
+        replicaB.down = true;
+        pool.checkHealth();
+        assertThat(readFromReplica()).isEqualTo("primary");
+
+        replicaA.down = false;
+        replicaB.down = false;
+        pool.checkHealth();
+        Set<String> servedBy = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            servedBy.add(readFromReplica());
+        }
+        assertThat(servedBy).containsExactlyInAnyOrder("replica-a", "replica-b");
+    }
+
+    @Test
+    void configuredCredentialsAreRoutedAndOthersRejectedWithHikariPools() throws Exception {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", hikari("replica-a"));
+        replicas.put("replica-b", hikari("replica-b"));
+        try (HikariDataSource hikariPrimary = hikari("primary");
+                ReplicaDataSourcePool hikariPool = new ReplicaDataSourcePool(hikariPrimary, replicas, new ReadYourWritesTracker(0), "sa", "")) {
+
+            Set<String> servedBy = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                try (Connection connection = hikariPool.getConnection("sa", "")) {
+                    servedBy.add(new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                            .queryForObject("SELECT name FROM whoami", String.class));
+                }
+            }
+            assertThat(servedBy).containsExactlyInAnyOrder("replica-a", "replica-b");
+
+            // Otras credenciales: error inmediato, sin marcar réplicas como caídas ni pasar a la principal
+            assertThatThrownBy(() -> hikariPool.getConnection("otro", "clave"))
+                    .isInstanceOf(SQLFeatureNotSupportedException.class);
+            Map<String, Object> description = hikariPool.describe();
+            assertThat(description).containsEntry("primaryFallbacks", 0L);
+            assertThat(description.get("replicas").toString()).doesNotContain("healthy=false");
+        }
+    }
+
+    @Test
+    void writerReadsItsOwnWritesFromThePrimary() {
+        authenticate("ana");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO writes (note) VALUES ('x')"));
+        assertThat(readFromReplica()).isEqualTo("primary");
+
+        // Otro usuario sigue leyendo de las réplicas
+        authenticate("luis");
+        assertThat(readFromReplica()).startsWith("replica-");
+    }
+
+    private String readFromReplica() {
+        String name = readOnly.execute(status -> whoAmI());
+        return name;
+    }
+
+    private String readInWriteTransaction() {
+        String name = readWrite.execute(status -> whoAmI());
+        return name;
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    // Pool Hikari sobre la misma base de datos en memoria, como en ReadWriteRoutingConfig
+    private static HikariDataSource hikari(String name) {
+        database(name);
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS whoami");
+        jdbc.execute("DROP TABLE IF EXISTS writes");
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbc.execute("CREATE TABLE writes (note VARCHAR(20))");
+        jdbc.update("INSERT INTO whoami (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    // Réplica que se puede "apagar" durante el test
+    private static final class FailingDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private FailingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Réplica caída");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.spring.emprendedoresApp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.RoleRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Las lecturas repetidas de roles y usuarios (cada llamada al repositorio es su propia
+ * transacción) se sirven desde la caché de segundo nivel sin ejecutar SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private UserEntity user;
+
+    @BeforeEach
+    void seed() {
+        RoleEntity role = roleRegistry.get(RoleEntity.RoleName.ROLE_USER);
+
+        user = new UserEntity();
+        user.setUsername("cacheado");
+        user.setEmail("cacheado@example.com");
+        user.setPassword("Secreta#2024");
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        user.setRole(role);
+        userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void roleByNameIsServedFromTheQueryCache() {
+        roleRepository.findByRoleName(RoleEntity.RoleName.ROLE_USER);
+        statistics.clear();
+
+        RoleEntity role = roleRepository.findByRoleName(RoleEntity.RoleName.ROLE_USER);
+
+        assertThat(role.getRoleName()).isEqualTo(RoleEntity.RoleName.ROLE_USER);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userByIdAndEmailAreServedFromTheCache() {
+        userRepository.findById(user.getId());
+        userRepository.findByEmail("cacheado@example.com");
+        statistics.clear();
+
+        assertThat(userRepository.findById(user.getId())).isPresent();
+        assertThat(userRepository.findByEmail("cacheado@example.com")).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void updatedUserIsNotServedStale() {
+        userRepository.findById(user.getId());
+        UserEntity loaded = userRepository.findById(user.getId()).orElseThrow();
+        loaded.setCity("Bogota");
+        userRepository.save(loaded);
+        statistics.clear();
+
+        // La caché de lectura-escritura se actualiza con el commit y el resultado por email se invalida
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getCity()).isEqualTo("Bogota");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(userRepository.findByEmail("cacheado@example.com").orElseThrow().getCity()).isEqualTo("Bogota");
+    }
+
+    @Test
+    void hitRatioIsPublishedPerRegion() {
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        assertThat(meterRegistry.get("hibernate.cache.hit.ratio").tag("region", "users").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("hibernate.cache.hits").tag("region", "users").functionCounter().count()).isPositive();
+    }
+}
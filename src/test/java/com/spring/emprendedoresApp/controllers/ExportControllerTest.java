@@ -0,0 +1,182 @@
+package com.spring.emprendedoresApp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Exportación NDJSON en streaming: una línea JSON por fila, comprimida si el cliente acepta gzip,
+ * y sin llenar la caché de segundo nivel con los usuarios exportados.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ExportControllerTest {
+
+    private static final int POSTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserEntity author;
+
+    @BeforeEach
+    void seed() {
+        author = new UserEntity();
+        author.setUsername("exportador");
+        author.setEmail("exportador@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        userRepository.save(author);
+
+        for (int p = 0; p < POSTS; p++) {
+            PostEntity post = new PostEntity();
+            post.setTitle("Publicación " + p);
+            post.setContent("Contenido");
+            post.setPostStatus(PostEntity.PostStatus.IDEAS);
+            post.setAuthor(author);
+            postRepository.save(post);
+
+            CommentEntity comment = new CommentEntity();
+            comment.setText("Comentario " + p);
+            comment.setUser(author);
+            comment.setPost(post);
+            commentRepository.save(comment);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void exportPostsWritesOneJsonLinePerPost() throws Exception {
+        MvcResult result = export(get("/api/posts/export"));
+
+        assertThat(result.getResponse().getContentType()).isEqualTo("application/x-ndjson");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        List<JsonNode> lines = lines(result.getResponse().getContentAsByteArray());
+        assertThat(lines).hasSize(POSTS);
+        assertThat(lines).extracting(line -> line.get("title").asText()).startsWith("Publicación 0");
+        assertThat(lines).allMatch(line -> line.get("authorId").asLong() == author.getId());
+    }
+
+    @Test
+    void exportCommentsIsGzippedWhenTheClientAcceptsIt() throws Exception {
+        MvcResult result = export(get("/api/comments/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] body;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            body = gzip.readAllBytes();
+        }
+        List<JsonNode> lines = lines(body);
+        assertThat(lines).hasSize(POSTS);
+        assertThat(lines).allMatch(line -> line.hasNonNull("postId") && line.get("userId").asLong() == author.getId());
+    }
+
+    @Test
+    void exportUsersBypassesTheSecondLevelCache() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MvcResult result = export(get("/api/users/export"));
+
+        assertThat(lines(result.getResponse().getContentAsByteArray()))
+                .extracting(line -> line.get("email").asText())
+                .containsExactly("exportador@example.com");
+        assertThat(statistics.getDomainDataRegionStatistics("users").getPutCount()).isZero();
+    }
+
+    @Test
+    @WithMockUser
+    void exportRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/users/export")).andExpect(status().isForbidden());
+    }
+
+    // La respuesta se escribe de forma asíncrona: se espera a que termine antes de leerla
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+    }
+
+    private List<JsonNode> lines(byte[] body) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        String text = new String(body, StandardCharsets.UTF_8);
+        assertThat(text).endsWith("\n");
+        for (String line : text.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,135 @@
+package com.spring.emprendedoresApp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+/**
+ * Importación NDJSON por lotes: los registros inválidos se informan con su línea y el resto
+ * del lote (y de la carga) se importa igualmente.
+ */
+@SpringBootTest(properties = "import.batchSize=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ImportControllerTest {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private UserEntity author;
+
+    @BeforeEach
+    void seed() {
+        RoleEntity role = roleRegistry.get(RoleEntity.RoleName.ROLE_USER);
+
+        author = new UserEntity();
+        author.setUsername("importador");
+        author.setEmail("importador@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(role);
+        userRepository.save(author);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void importPostsReportsInvalidLinesAndImportsTheRest() throws Exception {
+        long authorId = author.getId();
+        String body = String.join("\n",
+                postLine("Primera", authorId),
+                "{no es json",
+                postLine("Segunda", authorId),
+                postLine("", authorId),
+                postLine("Autor inexistente", -1),
+                "",
+                // Supera el VARCHAR(255) de la columna: solo lo detecta la base de datos, y el lote se reintenta por registro
+                "{\"title\":\"Larga\",\"content\":\"" + "x".repeat(300) + "\",\"postStatus\":\"IDEAS\",\"authorId\":" + authorId + "}",
+                postLine("Tercera", authorId),
+                postLine("Cuarta", authorId));
+
+        mockMvc.perform(post("/api/posts/import").contentType(NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(8))
+                .andExpect(jsonPath("$.imported").value(4))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.errors[*].line").value(contains(2, 4, 5, 7)));
+
+        assertThat(postRepository.findAll()).extracting(PostEntity::getTitle)
+                .containsExactlyInAnyOrder("Primera", "Segunda", "Tercera", "Cuarta");
+    }
+
+    @Test
+    void importCommentsChecksThatThePostExists() throws Exception {
+        PostEntity target = new PostEntity();
+        target.setTitle("Destino");
+        target.setContent("Contenido");
+        target.setAuthor(author);
+        postRepository.save(target);
+
+        String body = String.join("\n",
+                "{\"text\":\"Hola\",\"postId\":" + target.getId() + ",\"userId\":" + author.getId() + "}",
+                "{\"text\":\"Sin publicación\",\"postId\":-1}",
+                "{\"text\":\"Anónimo\",\"postId\":" + target.getId() + "}");
+
+        mockMvc.perform(post("/api/comments/import").contentType(NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+
+        assertThat(commentRepository.findByPostId(target.getId())).hasSize(2);
+    }
+
+    @Test
+    @WithMockUser
+    void importRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/posts/import").contentType(NDJSON).content(postLine("Primera", author.getId())))
+                .andExpect(status().isForbidden());
+    }
+
+    private static String postLine(String title, long authorId) {
+        return "{\"title\":\"" + title + "\",\"content\":\"Contenido\",\"postStatus\":\"IDEAS\",\"authorId\":" + authorId + "}";
+    }
+}
@@ -0,0 +1,103 @@
+package com.spring.emprendedoresApp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.impl.PasswordHashingServiceImpl;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+/**
+ * Con el pool de hashing lleno (un hilo ocupado y la cola de uno llena), login y registro se
+ * rechazan al instante con 503 y Retry-After en lugar de esperar a BCrypt.
+ */
+@SpringBootTest(properties = { "security.password.threads=1", "security.password.queueCapacity=1" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingBackpressureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void saturatePool() {
+        UserEntity user = new UserEntity();
+        user.setUsername("saturada");
+        user.setEmail("saturada@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("Secreta#2024"));
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        user.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        userRepository.save(user);
+
+        // Una tarea ocupa el único hilo y otra la única plaza de la cola
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHashingService, "executor");
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        release.countDown();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void saturatedPoolAnswersServiceUnavailable() throws Exception {
+        long rejectionsBefore = (Long) passwordHashingService.describe().get("rejections");
+
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"saturada@example.com\",\"password\":\"Secreta#2024\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.numOfError").value(1));
+
+        mockMvc.perform(post("/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"nueva\",\"email\":\"nueva@example.com\",\"password\":\"Secreta#2024\","
+                                + "\"phone\":\"+573001234567\",\"city\":\"Medellin\",\"country\":\"Colombia\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        assertThat((Long) passwordHashingService.describe().get("rejections")).isEqualTo(rejectionsBefore + 2);
+        assertThat(userRepository.findByEmail("nueva@example.com")).isEmpty();
+    }
+}
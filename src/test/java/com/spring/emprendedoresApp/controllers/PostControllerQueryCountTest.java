@@ -0,0 +1,209 @@
+package com.spring.emprendedoresApp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.jayway.jsonpath.JsonPath;
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.impl.ListingCountCache;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Los listados de publicaciones deben resolverse con un número constante de consultas,
+ * sin importar cuántas publicaciones, autores o comentarios haya (sin N+1).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class PostControllerQueryCountTest {
+
+    private static final int AUTHORS = 3;
+    private static final int POSTS_PER_AUTHOR = 5;
+    private static final int COMMENTS_PER_POST = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ListingCountCache listingCountCache;
+
+    private Statistics statistics;
+    private Long firstAuthorId;
+
+    @BeforeEach
+    void seed() {
+        RoleEntity role = roleRegistry.get(RoleEntity.RoleName.ROLE_USER);
+
+        List<UserEntity> authors = new ArrayList<>();
+        for (int a = 0; a < AUTHORS; a++) {
+            UserEntity author = new UserEntity();
+            author.setUsername("autor" + a);
+            author.setEmail("autor" + a + "@example.com");
+            author.setPassword("Secreta#2024");
+            author.setPhone("+573001234567");
+            author.setCity("Medellin");
+            author.setCountry("Colombia");
+            author.setRole(role);
+            authors.add(userRepository.save(author));
+        }
+        firstAuthorId = authors.get(0).getId();
+
+        for (UserEntity author : authors) {
+            for (int p = 0; p < POSTS_PER_AUTHOR; p++) {
+                PostEntity post = new PostEntity();
+                post.setTitle("Publicación " + p + " de " + author.getUsername());
+                post.setContent("Contenido");
+                post.setPostStatus(PostEntity.PostStatus.IDEAS);
+                post.setAuthor(author);
+                postRepository.save(post);
+
+                for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                    CommentEntity comment = new CommentEntity();
+                    comment.setText("Comentario " + c);
+                    comment.setUser(author);
+                    comment.setPost(post);
+                    commentRepository.save(comment);
+                }
+            }
+        }
+
+        listingCountCache.refresh();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getAllPostsRunsOneQuery() throws Exception {
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(AUTHORS * POSTS_PER_AUTHOR))
+                .andExpect(jsonPath("$[0].authorUsername").exists());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void getPostsByAuthorRunsOneQuery() throws Exception {
+        mockMvc.perform(get("/api/posts/author/{authorId}", firstAuthorId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(POSTS_PER_AUTHOR))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getPostsByStatusWithPageRunsOneQueryWithoutCount() throws Exception {
+        mockMvc.perform(get("/api/posts/status/{status}", "IDEAS").param("page", "0").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(4))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        // Solo la consulta de la página (con una fila de más para saber si hay siguiente), sin COUNT(*)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getPostsByStatusWithTotalTakesTotalFromCache() throws Exception {
+        mockMvc.perform(get("/api/posts/status/{status}", "IDEAS")
+                        .param("page", "0").param("size", "4").param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(4))
+                .andExpect(jsonPath("$.totalElements").value(AUTHORS * POSTS_PER_AUTHOR));
+
+        // El total sale de la caché de recuentos: sigue siendo una única consulta
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getPostsByStatusWithCursorRunsOneQueryPerPageAndVisitsEveryPostOnce() throws Exception {
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            statistics.clear();
+            MockHttpServletRequestBuilder request = get("/api/posts/status/{status}", "IDEAS").param("size", "4");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            // Una sola consulta por página, sin COUNT, también en las páginas profundas
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+            List<Integer> ids = JsonPath.read(body, "$.content[*].id");
+            for (Integer id : ids) {
+                assertThat(seen.add(id.longValue())).isTrue();
+            }
+            cursor = JsonPath.read(body, "$.nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(AUTHORS * POSTS_PER_AUTHOR);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void getPostsByStatusRejectsTamperedCursor() throws Exception {
+        mockMvc.perform(get("/api/posts/status/{status}", "IDEAS").param("cursor", "no-es-un-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,85 @@
+package com.spring.emprendedoresApp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.services.IJWTUtilityService;
+
+/**
+ * Un grupo de dos peticiones con recarga de una por minuto sobre los listados: la tercera
+ * recibe 429 con Retry-After, y el límite va por usuario autenticado o, si no hay token, por IP.
+ */
+@SpringBootTest(properties = {
+        "rateLimit.groups[0].name=listados",
+        "rateLimit.groups[0].methods=GET",
+        "rateLimit.groups[0].patterns=/api/posts/**",
+        "rateLimit.groups[0].capacity=2",
+        "rateLimit.groups[0].refillPerMinute=1" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IJWTUtilityService jwtUtilityService;
+
+    @Test
+    void anonymousClientsAreLimitedPerIp() throws Exception {
+        assertNotLimited(listPosts("10.0.0.1", null));
+        assertNotLimited(listPosts("10.0.0.1", null));
+        listPosts("10.0.0.1", null)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"));
+
+        assertNotLimited(listPosts("10.0.0.2", null));
+    }
+
+    @Test
+    void authenticatedClientsAreLimitedPerUserWhateverTheirIp() throws Exception {
+        String ana = token("ana");
+        listPosts("10.0.1.1", ana).andExpect(status().isOk());
+        listPosts("10.0.1.2", ana).andExpect(status().isOk());
+        listPosts("10.0.1.3", ana)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+
+        // Desde la misma IP, otro usuario y un cliente anónimo tienen sus propios buckets
+        listPosts("10.0.1.3", token("beto")).andExpect(status().isOk());
+        assertNotLimited(listPosts("10.0.1.3", null));
+    }
+
+    private ResultActions listPosts(String remoteAddr, String token) throws Exception {
+        return mockMvc.perform(get("/api/posts").with(request -> {
+            request.setRemoteAddr(remoteAddr);
+            if (token != null) {
+                request.addHeader("Authorization", "Bearer " + token);
+            }
+            return request;
+        }));
+    }
+
+    private static void assertNotLimited(ResultActions result) {
+        assertThat(result.andReturn().getResponse().getStatus()).isNotEqualTo(429);
+    }
+
+    private String token(String username) throws Exception {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        return jwtUtilityService.generateJWT(user, List.of("ROLE_USER"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.spring.emprendedoresApp.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Una base de datos creada por Hibernate antes de Flyway tiene exactamente el esquema de V1:
+ * con baseline-on-migrate se registra como V1 sin ejecutarla y el resto de migraciones deben
+ * aplicarse encima sin suponer nada que V1 no cree.
+ */
+class FlywayBaselineTest {
+
+    @Test
+    void existingBaselineDatabaseMigratesToTheCurrentSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__esquema_inicial.sql")).execute(dataSource);
+
+        Flyway flyway = Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load();
+        flyway.migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE version = '1' AND type = 'BASELINE'", Integer.class))
+                .isEqualTo(1);
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'refresh_tokens'", Integer.class))
+                .isEqualTo(1);
+    }
+}
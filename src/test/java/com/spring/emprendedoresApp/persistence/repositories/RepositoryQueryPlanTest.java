@@ -0,0 +1,233 @@
+package com.spring.emprendedoresApp.persistence.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.services.impl.RoleRegistry;
+
+/**
+ * Ejecuta EXPLAIN (H2 en modo MySQL, con el esquema de las migraciones de Flyway) sobre el SQL
+ * que genera cada consulta (también los UPDATE y DELETE de las consultas @Modifying) de PostRepository, CommentRepository y UserRepository, y falla si
+ * alguna recorre una tabla entera sin usar un índice. Los listados completos por diseño
+ * (sin filtro) se declaran explícitamente en {@link #FULL_LISTINGS}.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.spring.emprendedoresApp.persistence.repositories.RepositoryQueryPlanTest$CapturingInspector")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    // Consultas que devuelven o agregan la tabla completa: el recorrido entero es inevitable
+    private static final Set<String> FULL_LISTINGS = Set.of(
+            "findAllSummaries", "countByPostStatus", "findAll", "findAllBy", "countByPasswordCost",
+            "streamAllSummaries", "streamAll", "streamPublishedSuggestions", "streamSuggestions",
+            "findAllActive", "countByDeletedAtIsNull", "countActive", "findAllVisible");
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Set<String> explained = new HashSet<>();
+    private final List<String> fullScans = new ArrayList<>();
+
+    private UserEntity author;
+    private PostEntity post;
+
+    @BeforeAll
+    void seed() {
+        RoleEntity role = roleRegistry.get(RoleEntity.RoleName.ROLE_USER);
+
+        author = new UserEntity();
+        author.setUsername("planner");
+        author.setEmail("planner@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(role);
+        userRepository.save(author);
+
+        post = new PostEntity();
+        post.setTitle("Plan");
+        post.setContent("Contenido");
+        post.setPostStatus(PostEntity.PostStatus.IDEAS);
+        post.setAuthor(author);
+        postRepository.save(post);
+
+        CommentEntity comment = new CommentEntity();
+        comment.setText("Comentario");
+        comment.setUser(author);
+        comment.setPost(post);
+        commentRepository.save(comment);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(10);
+
+        explain("findAllSummaries", () -> postRepository.findAllSummaries());
+        explain("findSummariesByAuthorId", () -> postRepository.findSummariesByAuthorId(author.getId(), limit));
+        explain("findSummariesByAuthorIdAfter", () -> postRepository.findSummariesByAuthorIdAfter(author.getId(), now, post.getId(), limit));
+        explain("findSummariesByPostStatus", () -> postRepository.findSummariesByPostStatus(PostEntity.PostStatus.IDEAS, limit));
+        explain("findSummariesByPostStatus", () -> postRepository.findSummariesByPostStatus(PostEntity.PostStatus.IDEAS, PageRequest.of(1, 10)));
+        explain("findSummariesByPostStatusAfter", () -> postRepository.findSummariesByPostStatusAfter(PostEntity.PostStatus.IDEAS, now, post.getId(), limit));
+        explain("countByPostStatus", () -> postRepository.countByPostStatus());
+        explain("findExistingIds", () -> postRepository.findExistingIds(List.of(post.getId(), -1L)));
+        explain("findSummariesByIds", () -> postRepository.findSummariesByIds(List.of(post.getId(), -1L)));
+        explain("findIdsAfter", () -> postRepository.findIdsAfter(0L, limit));
+        explain("addToCommentCount", () -> inTransaction(() -> postRepository.addToCommentCount(post.getId(), 0)));
+        explain("streamAllSummaries", () -> inTransaction(() -> postRepository.streamAllSummaries().close()));
+        explain("streamPublishedSuggestions", () -> inTransaction(() -> postRepository.streamPublishedSuggestions().close()));
+        explain("reconcileCommentCounts", () -> inTransaction(() -> postRepository.reconcileCommentCounts(List.of(post.getId()))));
+        explain("findActiveById", () -> postRepository.findActiveById(post.getId()));
+        explain("countActive", () -> postRepository.countActive());
+        explain("softDelete", () -> inTransaction(() -> postRepository.softDelete(-1L, now)));
+        explain("findDeletedIds", () -> postRepository.findDeletedIds(limit));
+        explain("findActiveIdsByAuthorIds", () -> postRepository.findActiveIdsByAuthorIds(List.of(author.getId()), limit));
+        explain("softDeleteByIds", () -> inTransaction(() -> postRepository.softDeleteByIds(List.of(-1L), now)));
+        explain("purgeByIds", () -> inTransaction(() -> postRepository.purgeByIds(List.of(-1L))));
+        explain("countByDeletedAtIsNotNull", () -> postRepository.countByDeletedAtIsNotNull());
+
+        explain("findByPostId", () -> commentRepository.findByPostId(post.getId()));
+        explain("findAllVisible", () -> commentRepository.findAllVisible());
+        explain("findPostIdById", () -> commentRepository.findPostIdById(-1L));
+        explain("removeById", () -> inTransaction(() -> commentRepository.removeById(-1L)));
+        explain("countByPostForIds", () -> commentRepository.countByPostForIds(List.of(-1L)));
+        explain("streamAllSummaries", () -> inTransaction(() -> commentRepository.streamAllSummaries().close()));
+        explain("findIdsByPostIds", () -> commentRepository.findIdsByPostIds(List.of(post.getId()), limit));
+        explain("findIdsByUserIds", () -> commentRepository.findIdsByUserIds(List.of(author.getId()), limit));
+        explain("purgeByIds", () -> inTransaction(() -> commentRepository.purgeByIds(List.of(-1L))));
+
+        explain("findByEmail", () -> userRepository.findByEmail("planner@example.com"));
+        explain("findAll", () -> userRepository.findAll(PageRequest.of(0, 5)));
+        explain("findAllBy", () -> userRepository.findAllBy(PageRequest.of(0, 5)));
+        explain("findByUsername", () -> userRepository.findByUsername("planner"));
+        explain("findByRole", () -> userRepository.findByRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER)));
+        explain("countByPasswordCost", () -> userRepository.countByPasswordCost());
+        explain("findExistingIds", () -> userRepository.findExistingIds(List.of(author.getId(), -1L)));
+        explain("streamAll", () -> inTransaction(() -> userRepository.streamAll().close()));
+        explain("streamSuggestions", () -> inTransaction(() -> userRepository.streamSuggestions().close()));
+        explain("findActiveById", () -> userRepository.findActiveById(author.getId()));
+        explain("findAllActive", () -> userRepository.findAllActive());
+        explain("countByDeletedAtIsNull", () -> userRepository.countByDeletedAtIsNull());
+        explain("softDelete", () -> inTransaction(() -> userRepository.softDelete(-1L, now)));
+        explain("findDeletedIds", () -> userRepository.findDeletedIds(limit));
+        explain("purgeByIds", () -> inTransaction(() -> userRepository.purgeByIds(List.of(-1L))));
+        explain("countByDeletedAtIsNotNull", () -> userRepository.countByDeletedAtIsNotNull());
+
+        // Una consulta nueva en estos repositorios debe añadirse aquí para comprobar su plan
+        Set<String> declared = new HashSet<>();
+        for (Class<?> repository : List.of(PostRepository.class, CommentRepository.class, UserRepository.class)) {
+            Arrays.stream(repository.getDeclaredMethods()).map(Method::getName).forEach(declared::add);
+        }
+        assertThat(explained).containsAll(declared);
+
+        assertThat(fullScans).isEmpty();
+    }
+
+    // Las consultas de modificación (@Modifying) y las que devuelven un Stream necesitan una transacción
+    private void inTransaction(Runnable update) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> update.run());
+    }
+
+    // Ejecuta la consulta, captura su SQL y guarda el plan si recorre alguna tabla entera
+    private void explain(String method, Runnable query) throws SQLException {
+        CapturingInspector.STATEMENTS.clear();
+        query.run();
+        List<String> statements = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.trim().toLowerCase().matches("(select|update|delete)\\b[\\s\\S]*"))
+                .collect(Collectors.toList());
+        assertThat(statements).as(method).isNotEmpty();
+        explained.add(method);
+
+        for (String sql : statements) {
+            String plan = plan(sql);
+            if (plan.contains(".tableScan") && !FULL_LISTINGS.contains(method)) {
+                fullScans.add(method + ":\n" + plan);
+            }
+        }
+    }
+
+    // EXPLAIN no necesita los valores de los parámetros: se dejan a NULL
+    private String plan(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    /**
+     * Recoge el SQL que Hibernate envía a la base de datos, sin modificarlo.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.spring.emprendedoresApp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.services.IJWTUtilityService;
+import com.spring.emprendedoresApp.services.impl.JWTUtilityServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * El filtro con sus componentes reales (anillo sobre un directorio temporal, verificación y
+ * cachés); el servicio JWT se envuelve para contar cuántas veces se llega a verificar un token.
+ */
+class JWTAuthorizationFilterTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @TempDir
+    Path keysDir;
+
+    private JWTKeyRing keyRing;
+    private SimpleMeterRegistry meterRegistry;
+    private CountingJWTUtilityService jwtUtilityService;
+    private JWTAuthorizationFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TestKeys.write(keysDir, START);
+        keyRing = TestKeys.keyRing(keysDir, 1);
+        meterRegistry = new SimpleMeterRegistry();
+
+        JWTUtilityServiceImpl delegate = new JWTUtilityServiceImpl();
+        ReflectionTestUtils.setField(delegate, "keyRing", keyRing);
+        ReflectionTestUtils.setField(delegate, "accessTokenTtlSeconds", 900L);
+        ReflectionTestUtils.setField(delegate, "meterRegistry", meterRegistry);
+        delegate.init();
+        jwtUtilityService = new CountingJWTUtilityService(delegate);
+
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(tokenCache, "maximumSize", 1000L);
+        ReflectionTestUtils.setField(tokenCache, "keyRing", keyRing);
+        tokenCache.init();
+
+        RejectedTokenCache rejectedTokenCache = new RejectedTokenCache();
+        ReflectionTestUtils.setField(rejectedTokenCache, "maximumSize", 1000L);
+        ReflectionTestUtils.setField(rejectedTokenCache, "ttlSeconds", 300L);
+        rejectedTokenCache.init();
+        rejectedTokenCache.bindTo(meterRegistry);
+
+        filter = new JWTAuthorizationFilter(jwtUtilityService, tokenCache, rejectedTokenCache, meterRegistry);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cachedAuthenticationExpiresWithTheToken() throws Exception {
+        // "exp" se guarda en segundos: se elige un segundo entero a 2-3 s vista
+        Date expirationTime = new Date((System.currentTimeMillis() / 1000 + 3) * 1000);
+        String token = TestKeys.sign(keyRing, claims(expirationTime));
+
+        assertThat(filter(token)).isEqualTo(200);
+        assertThat(filter(token)).isEqualTo(200);
+        assertThat(jwtUtilityService.parses).isEqualTo(1);
+
+        Thread.sleep(expirationTime.getTime() - System.currentTimeMillis() + 100);
+        assertThat(filter(token)).isEqualTo(401);
+        assertThat(jwtUtilityService.parses).isEqualTo(2);
+    }
+
+    @Test
+    void cachedAuthenticationIsDroppedOnceItsKeyIsRetired() throws Exception {
+        String token = TestKeys.sign(keyRing, claims(new Date(System.currentTimeMillis() + 900_000)));
+        assertThat(filter(token)).isEqualTo(200);
+
+        TestKeys.write(keysDir, START + 60_000);
+        keyRing.reloadIfChanged();
+
+        // Durante la ventana de gracia la clave anterior se sigue aceptando y la entrada sirve
+        assertThat(filter(token)).isEqualTo(200);
+        assertThat(jwtUtilityService.parses).isEqualTo(1);
+
+        Thread.sleep(1_100);
+        keyRing.reloadIfChanged();
+        assertThat(filter(token)).isEqualTo(401);
+        assertThat(jwtUtilityService.parses).isEqualTo(2);
+    }
+
+    @Test
+    void malformedTokensAreRejectedBeforeAnyVerification() throws Exception {
+        assertThat(filter("not-a-jwt")).isEqualTo(401);
+        assertThat(filter("eyJhbGciOiJSUzI1NiJ9..firma")).isEqualTo(401);
+        assertThat(filter("eyJ" + "a".repeat(9000) + ".b.c")).isEqualTo(401);
+        assertThat(filter("eyJhbGciOiJSUzI1NiJ9.e30.fi+rma")).isEqualTo(401);
+
+        assertThat(jwtUtilityService.parses).isZero();
+        assertThat(rejections("malformed")).isEqualTo(4);
+    }
+
+    @Test
+    void rejectionsAreCountedByReasonAndRepeatsComeFromTheCache() throws Exception {
+        String expired = TestKeys.sign(keyRing, claims(new Date(System.currentTimeMillis() - 60_000)));
+        String valid = TestKeys.sign(keyRing, claims(new Date(System.currentTimeMillis() + 900_000)));
+        int signatureStart = valid.lastIndexOf('.') + 1;
+        String forged = valid.substring(0, signatureStart) + (valid.charAt(signatureStart) == 'A' ? 'B' : 'A')
+                + valid.substring(signatureStart + 1);
+
+        assertThat(filter(expired)).isEqualTo(401);
+        assertThat(filter(forged)).isEqualTo(401);
+        assertThat(filter(forged)).isEqualTo(401);
+
+        assertThat(jwtUtilityService.parses).isEqualTo(2);
+        assertThat(rejections("expired")).isEqualTo(1);
+        assertThat(rejections("bad_signature")).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.rejectedTokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownKeyRejectionsAreNotCachedSoAReloadedKeyIsAccepted() throws Exception {
+        Path otherKeysDir = Files.createDirectories(keysDir.resolve("otra"));
+        TestKeys.write(otherKeysDir, START);
+        String token = TestKeys.sign(TestKeys.keyRing(otherKeysDir, 1), claims(new Date(System.currentTimeMillis() + 900_000)));
+
+        assertThat(filter(token)).isEqualTo(401);
+        assertThat(filter(token)).isEqualTo(401);
+        assertThat(jwtUtilityService.parses).isEqualTo(2);
+        assertThat(rejections("unknown_key")).isEqualTo(2);
+
+        // La clave llega con la siguiente recarga y el mismo token pasa a ser válido
+        for (String file : new String[] { "private_key.pem", "public_key.pem" }) {
+            Path target = keysDir.resolve(file);
+            Files.copy(otherKeysDir.resolve(file), target, StandardCopyOption.REPLACE_EXISTING);
+            target.toFile().setLastModified(START + 60_000);
+        }
+        keyRing.reloadIfChanged();
+        assertThat(filter(token)).isEqualTo(200);
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("jwt.rejections").tag("reason", reason).functionCounter().count();
+    }
+
+    private int filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static JWTClaimsSet claims(Date expirationTime) {
+        return new JWTClaimsSet.Builder()
+                .subject("emprendedor")
+                .claim("authorities", List.of("ROLE_USER"))
+                .issueTime(new Date())
+                .expirationTime(expirationTime)
+                .build();
+    }
+
+    private static final class CountingJWTUtilityService implements IJWTUtilityService {
+
+        private final IJWTUtilityService delegate;
+        private int parses;
+
+        private CountingJWTUtilityService(IJWTUtilityService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JWTClaimsSet parseJWT(String jwt)
+                throws NoSuchAlgorithmException, InvalidKeySpecException, IOException, ParseException, JOSEException {
+            parses++;
+            return delegate.parseJWT(jwt);
+        }
+
+        @Override
+        public String generateJWT(UserEntity user, List<String> roles)
+                throws NoSuchAlgorithmException, InvalidKeySpecException, IOException, JOSEException {
+            return delegate.generateJWT(user, roles);
+        }
+    }
+}
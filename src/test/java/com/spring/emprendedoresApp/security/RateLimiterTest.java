@@ -0,0 +1,87 @@
+package com.spring.emprendedoresApp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * GCRA con un reloj controlado: ráfaga de {@code capacity}, recarga de una petición por
+ * intervalo (1 s con 60 por minuto) y un bucket independiente por cliente y grupo.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long T0 = 1_000 * SECOND;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setName("auth");
+        group.setMethods(List.of("POST"));
+        group.setPatterns(List.of("/auth/**"));
+        group.setCapacity(3);
+        group.setRefillPerMinute(60);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(List.of(group));
+
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "properties", properties);
+        rateLimiter.init();
+    }
+
+    @Test
+    void burstUpToCapacityThenOneRequestPerInterval() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(acquire("user:ana", T0)).isZero();
+        }
+        assertThat(acquire("user:ana", T0)).isEqualTo(SECOND);
+
+        // Justo antes de recargar la ficha sigue rechazada, con la espera que falta
+        assertThat(acquire("user:ana", T0 + SECOND - 1_000_000)).isEqualTo(1_000_000);
+        assertThat(acquire("user:ana", T0 + SECOND)).isZero();
+        assertThat(acquire("user:ana", T0 + SECOND)).isEqualTo(SECOND);
+
+        // Tras mucho tiempo inactivo el bucket vuelve a estar lleno, pero no acumula más que capacity
+        long later = T0 + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(acquire("user:ana", later)).isZero();
+        }
+        assertThat(acquire("user:ana", later)).isPositive();
+    }
+
+    @Test
+    void eachClientHasItsOwnBucket() {
+        for (int i = 0; i < 3; i++) {
+            acquire("user:ana", T0);
+        }
+        assertThat(acquire("user:ana", T0)).isPositive();
+
+        assertThat(acquire("user:beto", T0)).isZero();
+        assertThat(acquire("ip:10.0.0.1", T0)).isZero();
+    }
+
+    @Test
+    void routesOutsideEveryGroupAreNotLimited() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire("GET", "/auth/login", "user:ana", T0)).isZero();
+            assertThat(rateLimiter.tryAcquire("POST", "/api/posts", "user:ana", T0)).isZero();
+            assertThat(rateLimiter.tryAcquire("POST", "/authors", "user:ana", T0)).isZero();
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> auth = (Map<String, Object>) ((Map<String, Object>) rateLimiter.describe().get("groups")).get("auth");
+        assertThat(auth).containsEntry("allowed", 0L).containsEntry("rejected", 0L);
+    }
+
+    private long acquire(String clientKey, long now) {
+        return rateLimiter.tryAcquire("POST", "/auth/login", clientKey, now);
+    }
+}
@@ -0,0 +1,68 @@
+package com.spring.emprendedoresApp.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Base64;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Claves RS256 escritas en un directorio temporal con el mismo formato que {@link JWTKeyGenerator},
+ * y un {@link JWTKeyRing} que las lee, para probar rotaciones sin tocar las claves del proyecto.
+ */
+final class TestKeys {
+
+    private TestKeys() {
+    }
+
+    /**
+     * Escribe un par de claves nuevo en el directorio y adelanta la fecha de modificación de
+     * los ficheros para que el anillo detecte el cambio aunque el tamaño coincida.
+     */
+    static void write(Path directory, long lastModified) throws IOException, GeneralSecurityException {
+        KeyPair keyPair = JWTSigningAlgorithm.RS256.generateKeyPair();
+        writePem(directory.resolve("private_key.pem"), "PRIVATE KEY", keyPair.getPrivate().getEncoded(), lastModified);
+        writePem(directory.resolve("public_key.pem"), "PUBLIC KEY", keyPair.getPublic().getEncoded(), lastModified);
+    }
+
+    /**
+     * Anillo inicializado con las claves del directorio (que deben existir ya).
+     */
+    static JWTKeyRing keyRing(Path directory, long rotationGraceSeconds) throws Exception {
+        JWTKeyRing keyRing = new JWTKeyRing();
+        ReflectionTestUtils.setField(keyRing, "algorithm", JWTSigningAlgorithm.RS256);
+        ReflectionTestUtils.setField(keyRing, "privateKeyResource", new FileSystemResource(directory.resolve("private_key.pem")));
+        ReflectionTestUtils.setField(keyRing, "publicKeyResource", new FileSystemResource(directory.resolve("public_key.pem")));
+        ReflectionTestUtils.setField(keyRing, "additionalPublicKeyPaths", new String[0]);
+        ReflectionTestUtils.setField(keyRing, "rotationGraceSeconds", rotationGraceSeconds);
+        ReflectionTestUtils.setField(keyRing, "resourceLoader", new DefaultResourceLoader());
+        keyRing.init();
+        return keyRing;
+    }
+
+    /**
+     * Firma los claims con la clave vigente del anillo.
+     */
+    static String sign(JWTKeyRing keyRing, JWTClaimsSet claims) throws JOSEException {
+        JWTKeyRing.SigningKey signingKey = keyRing.getSigningKey();
+        SignedJWT jwt = new SignedJWT(signingKey.newHeader(), claims);
+        jwt.sign(signingKey.getSigner());
+        return jwt.serialize();
+    }
+
+    private static void writePem(Path path, String type, byte[] der, long lastModified) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        Files.writeString(path, "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n", StandardCharsets.US_ASCII);
+        path.toFile().setLastModified(lastModified);
+    }
+}
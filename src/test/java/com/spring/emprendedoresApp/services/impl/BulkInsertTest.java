@@ -0,0 +1,127 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.ICommentService;
+import com.spring.emprendedoresApp.services.IPostService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Las inserciones masivas deben agruparse en lotes JDBC: el número de sentencias preparadas
+ * crece con el número de lotes, no con el número de filas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkInsertTest {
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private IPostService postService;
+
+    @Autowired
+    private ICommentService commentService;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UserEntity author;
+
+    @BeforeEach
+    void seed() {
+        RoleEntity role = roleRegistry.get(RoleEntity.RoleName.ROLE_USER);
+
+        author = new UserEntity();
+        author.setUsername("masivo");
+        author.setEmail("masivo@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(role);
+        userRepository.save(author);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createPostsWritesInBatches() {
+        List<PostEntity> posts = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            PostEntity post = new PostEntity();
+            post.setTitle("Publicación " + i);
+            post.setContent("Contenido");
+            posts.add(post);
+        }
+
+        List<PostEntity> saved = postService.createPosts(posts, author.getId());
+
+        assertThat(saved).extracting(PostEntity::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(postRepository.count()).isEqualTo(ROWS);
+        // Un INSERT por lote de 50 y una reserva de identificadores por bloque, en lugar de 500 INSERT
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+    }
+
+    @Test
+    void createCommentsWritesInBatches() {
+        PostEntity post = new PostEntity();
+        post.setTitle("Publicación");
+        post.setContent("Contenido");
+        post = postService.createPost(post, author.getId());
+
+        List<CommentEntity> comments = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            CommentEntity comment = new CommentEntity();
+            comment.setText("Comentario " + i);
+            comment.setUser(author);
+            comments.add(comment);
+        }
+        statistics.clear();
+
+        commentService.createComments(comments, post.getId());
+
+        assertThat(commentRepository.findByPostId(post.getId())).hasSize(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+    }
+}
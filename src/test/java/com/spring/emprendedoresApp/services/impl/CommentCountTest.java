@@ -0,0 +1,165 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.ICommentService;
+import com.spring.emprendedoresApp.services.IPostService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * posts.comment_count acompaña a cada alta, baja y cambio de publicación de un comentario,
+ * los listados lo devuelven sin cargar comentarios y la reconciliación corrige los desvíos.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentCountTest {
+
+    @Autowired
+    private ICommentService commentService;
+
+    @Autowired
+    private IPostService postService;
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserEntity author;
+    private PostEntity first;
+    private PostEntity second;
+
+    @BeforeEach
+    void seed() {
+        author = new UserEntity();
+        author.setUsername("contadora");
+        author.setEmail("contadora@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        userRepository.save(author);
+
+        first = post("Primera");
+        second = post("Segunda");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void countFollowsCreateBulkCreateMoveAndDelete() {
+        CommentEntity single = commentService.createComment(comment("Uno"), first.getId());
+        List<CommentEntity> many = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            many.add(comment("Lote " + i));
+        }
+        commentService.createComments(many, first.getId());
+        assertThat(count(first)).isEqualTo(4);
+
+        CommentEntity moved = comment("Movido");
+        moved.setPost(second);
+        commentService.updateComment(single.getId(), moved);
+        assertThat(count(first)).isEqualTo(3);
+        assertThat(count(second)).isEqualTo(1);
+
+        assertThat(commentService.deleteComment(single.getId())).isTrue();
+        assertThat(commentService.deleteComment(single.getId())).isFalse();
+        assertThat(count(second)).isZero();
+        assertThat(count(first)).isEqualTo(3);
+    }
+
+    @Test
+    void listingReturnsTheCountWithoutLoadingComments() {
+        commentService.createComment(comment("Uno"), first.getId());
+        commentService.createComment(comment("Dos"), first.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<PostSummaryDTO> summaries = postService.getAllPosts();
+
+        assertThat(summaries).filteredOn(summary -> summary.getId().equals(first.getId()))
+                .extracting(PostSummaryDTO::getCommentCount).containsExactly(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void reconcileRepairsCountsChangedOutsideTheApplication() {
+        commentService.createComment(comment("Uno"), first.getId());
+        commentService.createComment(comment("Dos"), second.getId());
+        jdbcTemplate.update("UPDATE posts SET comment_count = 7 WHERE post_id = ?", first.getId());
+        jdbcTemplate.update("DELETE FROM comments WHERE post_id = ?", second.getId());
+
+        assertThat(commentCountReconciler.reconcile()).isEqualTo(2);
+        assertThat(count(first)).isEqualTo(1);
+        assertThat(count(second)).isZero();
+
+        // Sin desvíos no se escribe ninguna fila
+        assertThat(commentCountReconciler.reconcile()).isZero();
+    }
+
+    private PostEntity post(String title) {
+        PostEntity post = new PostEntity();
+        post.setTitle(title);
+        post.setContent("Contenido");
+        post.setPostStatus(PostEntity.PostStatus.IDEAS);
+        post.setAuthor(author);
+        return postRepository.save(post);
+    }
+
+    private CommentEntity comment(String text) {
+        CommentEntity comment = new CommentEntity();
+        comment.setText(text);
+        comment.setUser(author);
+        return comment;
+    }
+
+    private int count(PostEntity post) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE post_id = ?", Integer.class, post.getId());
+    }
+}
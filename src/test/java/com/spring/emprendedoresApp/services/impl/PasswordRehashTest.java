@@ -0,0 +1,106 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.LoginDTO;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IAuthService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Con el coste vigente en 5, un login correcto recalcula los hashes guardados con un coste
+ * menor y nunca toca los de coste mayor.
+ */
+@SpringBootTest(properties = "security.password.cost=5")
+@ActiveProfiles("test")
+class PasswordRehashTest {
+
+    private static final String PASSWORD = "Secreta#2024";
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void loginRehashesALowerCostHashToTheCurrentCost() throws Exception {
+        UserEntity user = user("coste4", 4);
+        double rehashesBefore = rehashes();
+
+        assertThat(login(user)).isTrue();
+
+        String stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+        assertThat(rehashes()).isEqualTo(rehashesBefore + 1);
+        assertThat(meterRegistry.get("password.hashing.verifications").tag("cost", "4").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+
+        // Ya está al coste vigente: el siguiente login no vuelve a recalcularlo
+        assertThat(login(user)).isTrue();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(stored);
+        assertThat(rehashes()).isEqualTo(rehashesBefore + 1);
+    }
+
+    @Test
+    void loginNeverLowersTheCostOfAStrongerHash() throws Exception {
+        UserEntity user = user("coste6", 6);
+        String original = user.getPassword();
+        double rehashesBefore = rehashes();
+
+        assertThat(login(user)).isTrue();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(original);
+        assertThat(rehashes()).isEqualTo(rehashesBefore);
+    }
+
+    private boolean login(UserEntity user) throws Exception {
+        LoginDTO login = new LoginDTO();
+        login.setEmail(user.getEmail());
+        login.setPassword(PASSWORD);
+        return authService.login(login).containsKey("jwt");
+    }
+
+    private double rehashes() {
+        return meterRegistry.get("password.hashing.rehashes").functionCounter().count();
+    }
+
+    private UserEntity user(String username, int cost) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword(new BCryptPasswordEncoder(cost).encode(PASSWORD));
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        user.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        return userRepository.save(user);
+    }
+}
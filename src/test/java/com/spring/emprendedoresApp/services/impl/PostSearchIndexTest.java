@@ -0,0 +1,151 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IPostService;
+
+/**
+ * La búsqueda ignora mayúsculas y tildes, ordena por BM25 (el título pesa más que el contenido),
+ * sigue cada alta, cambio y baja, y al reiniciar se carga del disco sin reconstruirse.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostSearchIndexTest {
+
+    @Autowired
+    private IPostService postService;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private UserEntity author;
+
+    @BeforeEach
+    void seed() throws Exception {
+        // Otras clases de prueba guardan publicaciones directamente con el repositorio, sin pasar por el índice
+        postSearchIndex.rebuild();
+
+        author = new UserEntity();
+        author.setUsername("buscadora");
+        author.setEmail("buscadora@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        userRepository.save(author);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.findAll().forEach(post -> postService.deletePost(post.getId()));
+        // deletePost solo las marca como borradas
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void searchFoldsAccentsAndRanksTitleMatchesFirst() {
+        PostEntity inContent = create("Tienda de barrio", "Vendemos café de origen y panadería artesanal");
+        PostEntity inTitle = create("Café orgánico en Medellín", "Tostión propia");
+        create("Taller de carpintería", "Muebles a medida");
+
+        assertThat(postService.searchPosts("CAFE", 10)).extracting(PostSummaryDTO::getId)
+                .containsExactly(inTitle.getId(), inContent.getId());
+        assertThat(postService.searchPosts("medellin", 10)).extracting(PostSummaryDTO::getTitle)
+                .containsExactly("Café orgánico en Medellín");
+        // Solo palabras vacías: nada que buscar
+        assertThat(postService.searchPosts("de la en", 10)).isEmpty();
+    }
+
+    @Test
+    void updatesAndDeletesReachTheIndex() {
+        PostEntity post = create("Huerta urbana", "Cultivos en terrazas");
+
+        PostEntity changes = new PostEntity();
+        changes.setTitle("Apicultura urbana");
+        changes.setContent("Colmenas en terrazas");
+        changes.setPostStatus(PostEntity.PostStatus.IDEAS);
+        postService.updatePost(post.getId(), changes);
+
+        assertThat(postService.searchPosts("huerta", 10)).isEmpty();
+        assertThat(postService.searchPosts("colmenas", 10)).extracting(PostSummaryDTO::getId).containsExactly(post.getId());
+
+        postService.deletePost(post.getId());
+        assertThat(postService.searchPosts("apicultura", 10)).isEmpty();
+    }
+
+    @Test
+    void restartLoadsSnapshotAndLogWithoutRebuilding() throws Exception {
+        create("Cerveza artesanal", "Fermentación en frío");
+        postSearchIndex.scheduledSnapshot();
+        // Posterior a la instantánea: solo está en el registro
+        PostEntity logged = create("Chocolate de cacao fino", "Origen Santander");
+
+        postSearchIndex.init();
+
+        assertThat(postSearchIndex.describe()).containsEntry("loadedFrom", "disk");
+        assertThat(postSearchIndex.search("cerveza", 10)).hasSize(1);
+        assertThat(postSearchIndex.search("cacao", 10)).containsExactly(logged.getId());
+    }
+
+    @Test
+    void corruptLogLengthsRebuildFromTheDatabase() throws Exception {
+        PostEntity post = create("Miel de montaña", "Apiario familiar");
+        Path wal = Path.of((String) ReflectionTestUtils.getField(postSearchIndex, "indexDir"), "posts.wal");
+
+        // Una longitud negativa y otra enorme: ninguna debe llegar a reservar el array
+        for (int length : new int[] { -5, Integer.MAX_VALUE }) {
+            postSearchIndex.scheduledSnapshot();
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(record)) {
+                out.writeByte(1);
+                out.writeLong(post.getId());
+                out.writeInt(length);
+            }
+            Files.write(wal, record.toByteArray(), StandardOpenOption.APPEND);
+
+            postSearchIndex.init();
+
+            assertThat(postSearchIndex.describe()).containsEntry("loadedFrom", "database");
+            assertThat(postSearchIndex.search("miel", 10)).containsExactly(post.getId());
+        }
+    }
+
+    private PostEntity create(String title, String content) {
+        PostEntity post = new PostEntity();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setPostStatus(PostEntity.PostStatus.IDEAS);
+        return postService.createPost(post, author.getId());
+    }
+}
@@ -0,0 +1,143 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.LoginDTO;
+import com.spring.emprendedoresApp.models.dtos.RefreshTokenDTO;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IAuthService;
+import com.spring.emprendedoresApp.services.IUserService;
+
+/**
+ * Rotación de refresh tokens: cada canje emite uno nuevo de la misma familia, un token canjeado
+ * que reaparece revoca la familia entera y solo una de varias peticiones simultáneas lo canjea.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenRotationTest {
+
+    private static final int CONCURRENT_REFRESHES = 8;
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void register() throws Exception {
+        authService.register(user("renovadora"), "ROLE_USER");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void reusingAConsumedTokenRevokesTheWholeFamily() throws Exception {
+        String first = login().get("refreshToken");
+        String otherSession = login().get("refreshToken");
+
+        HashMap<String, String> rotated = refresh(first);
+        assertThat(rotated).containsKeys("jwt", "refreshToken");
+
+        // El token ya canjeado reaparece: se rechaza y arrastra al que lo sustituyó
+        assertThat(refresh(first)).containsEntry("error", "Invalid or expired refresh token");
+        assertThat(refresh(rotated.get("refreshToken"))).containsEntry("error", "Invalid or expired refresh token");
+
+        // Las demás sesiones del usuario son otras familias y siguen funcionando
+        assertThat(refresh(otherSession)).containsKeys("jwt", "refreshToken");
+    }
+
+    @Test
+    void concurrentRefreshesOfTheSameTokenLetExactlyOneWin() throws Exception {
+        String refreshToken = login().get("refreshToken");
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REFRESHES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HashMap<String, String>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return refresh(refreshToken);
+                }));
+            }
+            start.countDown();
+
+            int won = 0;
+            for (Future<HashMap<String, String>> result : results) {
+                HashMap<String, String> response = result.get();
+                if (response.containsKey("jwt")) {
+                    won++;
+                } else {
+                    assertThat(response).containsEntry("error", "Invalid or expired refresh token");
+                }
+            }
+            assertThat(won).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deletedUserCannotRefresh() throws Exception {
+        String refreshToken = login().get("refreshToken");
+        UserEntity user = userRepository.findByEmail("renovadora@example.com").orElseThrow();
+
+        assertThat(userService.deleteUser(user.getId())).isTrue();
+
+        assertThat(refresh(refreshToken)).containsEntry("error", "Invalid or expired refresh token");
+    }
+
+    private HashMap<String, String> login() throws Exception {
+        LoginDTO login = new LoginDTO();
+        login.setEmail("renovadora@example.com");
+        login.setPassword("Secreta#2024");
+        HashMap<String, String> response = authService.login(login);
+        assertThat(response).containsKeys("jwt", "refreshToken");
+        return response;
+    }
+
+    private HashMap<String, String> refresh(String refreshToken) throws Exception {
+        RefreshTokenDTO refreshRequest = new RefreshTokenDTO();
+        refreshRequest.setRefreshToken(refreshToken);
+        return authService.refresh(refreshRequest);
+    }
+
+    private static UserEntity user(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("Secreta#2024");
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity.RoleName;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IAuthService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Los roles se crean y cargan al arrancar; registrar un usuario ya no consulta la tabla roles.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RoleRegistryTest {
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void everyRoleIsSeededAtStartup() {
+        for (RoleName roleName : RoleName.values()) {
+            RoleEntity role = roleRegistry.get(roleName);
+            assertThat(role.getId()).isNotNull();
+            assertThat(role.getRoleName()).isEqualTo(roleName);
+        }
+    }
+
+    @Test
+    void parseIgnoresCaseAndRejectsUnknownNames() {
+        assertThat(roleRegistry.parse("role_editor")).isEqualTo(RoleName.ROLE_EDITOR);
+        assertThat(roleRegistry.parse("ROLE_ADMIN")).isEqualTo(RoleName.ROLE_ADMIN);
+        assertThat(roleRegistry.parse("ROLE_ROOT")).isNull();
+        assertThat(roleRegistry.parse(null)).isNull();
+    }
+
+    @Test
+    void registerAssignsTheRoleWithoutQueryingRoles() throws Exception {
+        UserEntity user = new UserEntity();
+        user.setUsername("editora");
+        user.setEmail("editora@example.com");
+        user.setPassword("Secreta#2024");
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseDTO response = authService.register(user, "role_editor");
+
+        assertThat(response.getNumOfError()).isZero();
+        assertThat(statistics.getEntityStatistics(RoleEntity.class.getName()).getLoadCount()).isZero();
+        assertThat(Arrays.stream(statistics.getQueries())).noneMatch(query -> query.contains("RoleEntity"));
+        assertThat(userRepository.findByRole(roleRegistry.get(RoleName.ROLE_EDITOR)))
+                .extracting(UserEntity::getEmail)
+                .containsExactly("editora@example.com");
+    }
+}
@@ -0,0 +1,168 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.PostSummaryDTO;
+import com.spring.emprendedoresApp.persistence.entities.CommentEntity;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.CommentRepository;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.ICommentService;
+import com.spring.emprendedoresApp.services.IPostService;
+import com.spring.emprendedoresApp.services.IRefreshTokenService;
+import com.spring.emprendedoresApp.services.IUserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Borrar una publicación o un usuario es un solo UPDATE que los oculta de inmediato; la purga
+ * posterior elimina sus filas con todo lo que cuelga de ellos y corrige los contadores ajenos.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SoftDeleteTest {
+
+    @Autowired
+    private IPostService postService;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private ICommentService commentService;
+
+    @Autowired
+    private IRefreshTokenService refreshTokenService;
+
+    @Autowired
+    private SoftDeleteReaper softDeleteReaper;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserEntity author;
+    private UserEntity reader;
+
+    @BeforeEach
+    void seed() {
+        author = user("panadera");
+        reader = user("lector");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void deletingAPostIsOneUpdateAndTheReaperPurgesItsComments() {
+        PostEntity post = post("Pan de masa madre", author);
+        commentService.createComment(comment("Uno", reader), post.getId());
+        commentService.createComment(comment("Dos", author), post.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(postService.deletePost(post.getId())).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(postService.deletePost(post.getId())).isFalse();
+
+        // Oculta de inmediato aunque las filas sigan ahí
+        assertThat(postService.getPostById(post.getId())).isNull();
+        assertThat(postService.getAllPosts()).extracting(PostSummaryDTO::getId).doesNotContain(post.getId());
+        assertThat(commentService.getCommentsByPost(post.getId())).isEmpty();
+        assertThat(commentRepository.count()).isEqualTo(2);
+
+        assertThat(softDeleteReaper.reap()).containsEntry("posts", 1).containsEntry("comments", 2).containsEntry("users", 0);
+        assertThat(postRepository.existsById(post.getId())).isFalse();
+        assertThat(commentRepository.count()).isZero();
+        assertThat(softDeleteReaper.describe()).containsEntry("pendingPosts", 0L);
+    }
+
+    @Test
+    void deletingAUserHidesItAndTheReaperPurgesEverythingItOwns() {
+        PostEntity own = post("Huerta en casa", reader);
+        PostEntity other = post("Pan integral", author);
+        commentService.createComment(comment("En la suya", author), own.getId());
+        commentService.createComment(comment("En la ajena", reader), other.getId());
+        CommentEntity kept = commentService.createComment(comment("Del autor", author), other.getId());
+        String refreshToken = refreshTokenService.issueRefreshToken(reader, null);
+
+        assertThat(userService.deleteUser(reader.getId())).isTrue();
+
+        assertThat(userService.getUserById(reader.getId())).isEmpty();
+        assertThat(userService.getAllUsers()).extracting(UserEntity::getId).doesNotContain(reader.getId());
+        assertThat(userRepository.findByEmail(reader.getEmail())).isEmpty();
+        assertThat(postService.getAllPosts()).extracting(PostSummaryDTO::getId).containsExactly(other.getId());
+        // Sus publicaciones y comentarios desaparecen igual que en los listados, también antes de la purga
+        assertThat(postService.getPostById(own.getId())).isNull();
+        assertThat(commentService.getCommentsByPost(other.getId())).extracting(CommentEntity::getId).containsExactly(kept.getId());
+        assertThat(commentService.getAllComments()).extracting(CommentEntity::getId).containsExactly(kept.getId());
+        assertThat(refreshTokenService.consumeRefreshToken(refreshToken)).isEmpty();
+
+        assertThat(softDeleteReaper.reap()).containsEntry("posts", 1).containsEntry("comments", 2).containsEntry("users", 1);
+        assertThat(userRepository.existsById(reader.getId())).isFalse();
+        assertThat(postRepository.existsById(own.getId())).isFalse();
+        assertThat(commentRepository.findAll()).extracting(CommentEntity::getId).containsExactly(kept.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE post_id = ?", Integer.class, other.getId()))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class)).isZero();
+    }
+
+    private UserEntity user(String username) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("Secreta#2024");
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        user.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        return userRepository.save(user);
+    }
+
+    private PostEntity post(String title, UserEntity postAuthor) {
+        PostEntity post = new PostEntity();
+        post.setTitle(title);
+        post.setContent("Contenido");
+        post.setPostStatus(PostEntity.PostStatus.IDEAS);
+        return postService.createPost(post, postAuthor.getId());
+    }
+
+    private CommentEntity comment(String text, UserEntity user) {
+        CommentEntity comment = new CommentEntity();
+        comment.setText(text);
+        comment.setUser(user);
+        return comment;
+    }
+}
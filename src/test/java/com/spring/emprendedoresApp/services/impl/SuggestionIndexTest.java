@@ -0,0 +1,140 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.SuggestionDTO;
+import com.spring.emprendedoresApp.models.dtos.SuggestionsDTO;
+import com.spring.emprendedoresApp.persistence.entities.PostEntity;
+import com.spring.emprendedoresApp.persistence.entities.RoleEntity;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.PostRepository;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IPostService;
+import com.spring.emprendedoresApp.services.IUserService;
+
+/**
+ * El autocompletado solo ofrece publicaciones publicadas, ignora mayúsculas y tildes, ordena por
+ * recencia y sigue los cambios de publicaciones y usuarios sin recargarse.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SuggestionIndexTest {
+
+    @Autowired
+    private IPostService postService;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private UserEntity author;
+
+    @BeforeEach
+    void seed() {
+        author = new UserEntity();
+        author.setUsername("cafetera_paisa");
+        author.setEmail("cafetera@example.com");
+        author.setPassword("Secreta#2024");
+        author.setPhone("+573001234567");
+        author.setCity("Medellin");
+        author.setCountry("Colombia");
+        author.setRole(roleRegistry.get(RoleEntity.RoleName.ROLE_USER));
+        userRepository.save(author);
+
+        // Otras clases de prueba (y este mismo alta) guardan directamente con los repositorios: se recarga
+        suggestionIndex.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void completesPublishedTitlesAndUsernamesNewestFirst() {
+        PostEntity older = create("Café orgánico", PostEntity.PostType.PUBLISHED, LocalDateTime.now().minusDays(2));
+        PostEntity newer = create("Cafetería del centro", PostEntity.PostType.PUBLISHED, LocalDateTime.now().minusDays(1));
+        create("Café en revisión", PostEntity.PostType.PENDING, LocalDateTime.now());
+
+        SuggestionsDTO suggestions = postService.suggest("CAFE", 10);
+
+        assertThat(suggestions.getPosts()).extracting(SuggestionDTO::getId).containsExactly(newer.getId(), older.getId());
+        assertThat(suggestions.getUsers()).extracting(SuggestionDTO::getText).containsExactly("cafetera_paisa");
+        assertThat(postService.suggest("cafe  org", 10).getPosts()).extracting(SuggestionDTO::getText)
+                .containsExactly("Café orgánico");
+        // Con espacio final solo la palabra entera
+        assertThat(postService.suggest("cafe ", 10).getPosts()).extracting(SuggestionDTO::getId).containsExactly(older.getId());
+        assertThat(postService.suggest("cafe", 1).getPosts()).hasSize(1);
+        // Prefijo del título completo, no de cualquier palabra
+        assertThat(postService.suggest("organico", 10).getPosts()).isEmpty();
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        PostEntity post = create("Huerta urbana", PostEntity.PostType.PUBLISHED, LocalDateTime.now());
+
+        PostEntity changes = new PostEntity();
+        changes.setTitle("Huerta comunitaria");
+        changes.setContent("Contenido");
+        changes.setPostStatus(PostEntity.PostStatus.IDEAS);
+        changes.setPostType(PostEntity.PostType.PUBLISHED);
+        postService.updatePost(post.getId(), changes);
+        assertThat(postService.suggest("huerta", 10).getPosts()).extracting(SuggestionDTO::getText)
+                .containsExactly("Huerta comunitaria");
+
+        // Vuelve a revisión: deja de sugerirse
+        changes.setPostType(PostEntity.PostType.PENDING);
+        postService.updatePost(post.getId(), changes);
+        assertThat(postService.suggest("huerta", 10).getPosts()).isEmpty();
+
+        UserEntity rename = new UserEntity();
+        rename.setUsername("tostadora_andina");
+        userService.updatePartialUser(author.getId(), rename);
+        assertThat(postService.suggest("cafetera", 10).getUsers()).isEmpty();
+        assertThat(postService.suggest("tostadora", 10).getUsers()).extracting(SuggestionDTO::getId).containsExactly(author.getId());
+
+        int usersBefore = userEntries();
+        postService.deletePost(post.getId());
+        userService.deleteUser(author.getId());
+        assertThat(postService.suggest("tostadora", 10).getUsers()).isEmpty();
+        assertThat(userEntries()).isEqualTo(usersBefore - 1);
+    }
+
+    private int userEntries() {
+        Map<?, ?> users = (Map<?, ?>) suggestionIndex.describe().get("users");
+        return (Integer) users.get("entries");
+    }
+
+    private PostEntity create(String title, PostEntity.PostType type, LocalDateTime creationDate) {
+        PostEntity post = new PostEntity();
+        post.setTitle(title);
+        post.setContent("Contenido");
+        post.setPostStatus(PostEntity.PostStatus.IDEAS);
+        post.setPostType(type);
+        post.setValido(type == PostEntity.PostType.PUBLISHED);
+        post.setCreationDate(creationDate);
+        return postService.createPost(post, author.getId());
+    }
+}
@@ -0,0 +1,123 @@
+package com.spring.emprendedoresApp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.spring.emprendedoresApp.models.dtos.ResponseDTO;
+import com.spring.emprendedoresApp.persistence.entities.UserEntity;
+import com.spring.emprendedoresApp.persistence.repositories.UserRepository;
+import com.spring.emprendedoresApp.services.IAuthService;
+import com.spring.emprendedoresApp.services.IUserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * El alta hace un único INSERT y los duplicados se detectan por las restricciones únicas,
+ * también cuando varias altas con el mismo correo llegan a la vez.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserRegistrationTest {
+
+    private static final int CONCURRENT_SIGN_UPS = 8;
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void registrationIsASingleInsert() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseDTO response = authService.register(user("nueva", "nueva@example.com"), "ROLE_USER");
+
+        assertThat(response.getNumOfError()).isZero();
+        assertThat(response.getMessage()).isEqualTo("Usuario creado exitosamente!");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void duplicatedEmailAndUsernameAreReportedFromTheConstraints() throws Exception {
+        authService.register(user("repetida", "repetida@example.com"), "ROLE_USER");
+
+        ResponseDTO sameEmail = userService.createUser(user("otra", "repetida@example.com"), "ROLE_USER");
+        assertThat(sameEmail.getNumOfError()).isEqualTo(1);
+        assertThat(sameEmail.getMessage()).isEqualTo("El correo ya está registrado!");
+
+        ResponseDTO sameUsername = authService.register(user("repetida", "otra@example.com"), "ROLE_USER");
+        assertThat(sameUsername.getNumOfError()).isEqualTo(1);
+        assertThat(sameUsername.getMessage()).isEqualTo("El nombre de usuario ya está registrado!");
+
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSignUpsWithTheSameEmailCreateOneUser() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SIGN_UPS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseDTO>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_SIGN_UPS; i++) {
+                UserEntity user = user("simultanea" + i, "simultanea@example.com");
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authService.register(user, "ROLE_USER");
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<ResponseDTO> result : results) {
+                ResponseDTO response = result.get();
+                if (response.getNumOfError() == 0) {
+                    created++;
+                } else {
+                    assertThat(response.getMessage()).isEqualTo("El correo ya está registrado!");
+                }
+            }
+            assertThat(created).isEqualTo(1);
+            assertThat(userRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static UserEntity user(String username, String email) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("Secreta#2024");
+        user.setPhone("+573001234567");
+        user.setCity("Medellin");
+        user.setCountry("Colombia");
+        return user;
+    }
+}